@@ -2,15 +2,11 @@ package com.example.auth;
 
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Bean;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,17 +14,27 @@ import org.springframework.stereotype.Service;
 
 import com.example.entity.Role;
 import com.example.entity.User;
-import com.example.repo.RoleRepository;
 import com.example.repo.UserRepository;
 import com.example.service.AuthResponse;
+import com.example.service.CustomUserDetailsService;
+import com.example.service.CustomUserDetailsService.AccountDetails;
+import com.example.service.RoleCatalog;
 
 import java.nio.file.AccessDeniedException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+/**
+ * Registration and login. Only the BCrypt work runs on the bounded
+ * {@link PasswordHashingExecutor}; lookups happen on the request thread before
+ * it, and the database writes after it continue on the application task
+ * executor, so slow queries or a busy connection pool never hold a hashing slot.
+ * A login reads the user only through the {@link CustomUserDetailsService} cache.
+ */
 @Service
 public class AuthService {
 
@@ -36,7 +42,7 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private RoleRepository roleRepository;
+    private RoleCatalog roleCatalog;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -45,68 +51,129 @@ public class AuthService {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private Executor taskExecutor;
+
+    private final AccountStatusUserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    // Verified against when the email is unknown, so the response time does not reveal which emails exist
+    private volatile String unknownUserHash;
+
+    /**
+     * Outcome of checking a password: whether it matched, and a new hash when
+     * the stored one uses an outdated cost.
+     */
+    private record Verification(boolean matches, String upgradedHash) {
+    }
 
     /**
      * Register a new user
      */
-    public String register(String fullName, String email, String password, String roleName) {
-        if (userRepository.findByEmail(email).isPresent()) {
+    public CompletableFuture<String> register(String fullName, String email, String password, String roleName) {
+        if (userRepository.existsByEmail(email)) {
             throw new RuntimeException("Email already exists");
         }
 
-        Role role = roleRepository.findByName(roleName)
+        Role role = roleCatalog.findByName(roleName)
                 .orElseThrow(() -> new RuntimeException("Role not found: " + roleName));
 
-        User user = new User();
-        user.setFullName(fullName);
-        user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
-        user.setRoles(Collections.singleton(role));
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(password))
+                .thenApplyAsync(hash -> {
+                    User user = new User();
+                    user.setFullName(fullName);
+                    user.setEmail(email);
+                    user.setPassword(hash);
+                    user.setRoles(Collections.singleton(role));
 
-        userRepository.save(user);
+                    userRepository.save(user);
 
-        return "User registered successfully";
+                    return "User registered successfully";
+                }, taskExecutor);
     }
 
     /**
-     * Authenticate a user and return a JWT token + user info
+     * Authenticate a user and return a JWT token + user info. The future fails
+     * with {@link BadCredentialsException} or {@link AccessDeniedException}
+     * (wrapped in a {@link CompletionException}) when the login is refused.
      */
-    public AuthResponse login(String email, String password, String roleName) throws AccessDeniedException {
-        // 1. Authenticate user credentials
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(email, password)
-        );
-
-        // 2. Fetch authenticated user from DB
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // 3. Validate the requested role
-        Role selectedRole = roleRepository.findByName(roleName)
-                .orElseThrow(() -> new RuntimeException("Role not found: " + roleName));
+    public CompletableFuture<AuthResponse> login(String email, String password, String roleName) {
+        // 1. Load the user (cached) on the request thread
+        UserDetails details = findUserDetails(email);
+
+        // 2. Check the password, and rehash it if its cost is outdated, on the hashing pool
+        return passwordHashingExecutor.submit(() -> verify(password, details))
+                .thenApplyAsync(verification -> completeLogin(email, roleName, details, verification), taskExecutor);
+    }
 
-        if (!user.getRoles().contains(selectedRole)) {
-            throw new AccessDeniedException("User does not have the selected role");
+    private UserDetails findUserDetails(String email) {
+        try {
+            return userDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            return null;
         }
+    }
 
-        // 4. Prepare "ROLE_" prefixed role names for JWT & security
-        List<String> rolesForToken = user.getRoles().stream()
-        		.map(role -> role.getName().toUpperCase())
-                .collect(Collectors.toList());
+    private Verification verify(String password, UserDetails details) {
+        if (details == null) {
+            passwordEncoder.matches(password, unknownUserHash());
+            return new Verification(false, null);
+        }
+        if (!passwordEncoder.matches(password, details.getPassword())) {
+            return new Verification(false, null);
+        }
+        String upgraded = passwordEncoder.upgradeEncoding(details.getPassword()) ? passwordEncoder.encode(password) : null;
+        return new Verification(true, upgraded);
+    }
 
-        // 5. Generate JWT
-        String token = jwtUtil.generateToken(email, rolesForToken);
+    private String unknownUserHash() {
+        String hash = unknownUserHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode("unknown-user-password");
+            unknownUserHash = hash;
+        }
+        return hash;
+    }
 
-        // 6. Set Spring Security context manually
-        List<GrantedAuthority> authorities = rolesForToken.stream()
-                .map(SimpleGrantedAuthority::new)
+    private AuthResponse completeLogin(String email, String roleName, UserDetails details, Verification verification) {
+        if (!verification.matches()) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+        accountStatusChecker.check(details);
+        if (verification.upgradedHash() != null) {
+            userDetailsService.updatePassword(details, verification.upgradedHash());
+        }
+
+        // 3. The cached details carry the user's roles, id and name; no need to load the user again
+        AccountDetails account = (AccountDetails) details;
+
+        // 4. Prepare "ROLE_" prefixed role names for the JWT
+        List<String> rolesForToken = account.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList());
 
-        UsernamePasswordAuthenticationToken authToken =
-                new UsernamePasswordAuthenticationToken(email, null, authorities);
-        SecurityContextHolder.getContext().setAuthentication(authToken);
+        // 5. Validate the requested role
+        Role selectedRole = roleCatalog.findByName(roleName)
+                .orElseThrow(() -> new RuntimeException("Role not found: " + roleName));
+
+        if (!rolesForToken.contains(selectedRole.getName().toUpperCase())) {
+            throw new CompletionException(new AccessDeniedException("User does not have the selected role"));
+        }
+
+        // 6. Start a session: short-lived JWT plus a rotating refresh token
+        RefreshTokenService.Session session = refreshTokenService.startSession(email);
+        String token = jwtUtil.generateToken(email, rolesForToken, session.sessionId());
 
-        return new AuthResponse(token, user);
+        AuthResponse response = new AuthResponse(token, account.getId(), account.getFullName(), email, selectedRole.getName());
+        response.setRefreshToken(session.refreshToken());
+        return response;
     }
-}
\ No newline at end of file
+}
@@ -6,10 +6,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -19,6 +21,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
+
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,12 +31,25 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthFilter.class);
 
+    // EventSource cannot send headers, so this one path also accepts ?access_token=
+    public static final String EVENT_STREAM_PATH = "/api/notifications/stream";
+
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private TokenRevocationIndex tokenRevocationIndex;
+
     @Autowired
     private UserDetailsService userDetailsService;  // Add this to load UserDetails
 
+    // Opt-in: build the Authentication from verified claims instead of loading the user
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -40,25 +57,28 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        final String authHeader = request.getHeader("Authorization");
+        final String jwt = resolveToken(request);
         String username = null;
-        String jwt = null;
+        Claims claims = null;
 
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
+        if (jwt != null) {
             try {
-                username = jwtUtil.extractUsername(jwt);
+                // Verified once per request (or not at all on a cache hit)
+                claims = verifiedTokenCache.verify(jwt);
+                username = claims.getSubject();
             } catch (Exception e) {
-                logger.error("JWT extraction failed: {}", e.getMessage());
+                logger.warn("JWT extraction failed: {}", e.getMessage());
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (username != null && stateless && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticateFromClaims(request, claims);
+        } else if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             // Load user details from DB or in-memory
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {  // Pass userDetails for extra validation if needed
-                List<String> roles = jwtUtil.extractRoles(jwt);
+            if (jwtUtil.validateClaims(claims, userDetails) && !tokenRevocationIndex.isRevoked(claims)) {  // Pass userDetails for extra validation if needed
+                List<String> roles = jwtUtil.extractRoles(claims);
                 List<GrantedAuthority> authorities = roles.stream()
                         .map(SimpleGrantedAuthority::new)  // "ROLE_STUDENT", etc.
                         .collect(Collectors.toList());
@@ -69,7 +89,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
 
-                logger.info("Authenticated user: {}, Roles: {}", username, roles);
+                logger.debug("Authenticated user: {}, Roles: {}", username, roles);
             } else {
                 logger.warn("Invalid JWT token for user: {}", username);
             }
@@ -79,4 +99,41 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private static String resolveToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        if (EVENT_STREAM_PATH.equals(request.getServletPath())) {
+            return request.getParameter("access_token");
+        }
+        return null;
+    }
+
+    /**
+     * Stateless path: the signature and expiry were already checked when the
+     * claims were verified, so the only remaining check is the in-memory
+     * revocation watermark. No UserDetailsService lookup, no database.
+     */
+    private void authenticateFromClaims(HttpServletRequest request, Claims claims) {
+        if (tokenRevocationIndex.isRevoked(claims)) {
+            logger.warn("Revoked JWT token for user: {}", claims.getSubject());
+            return;
+        }
+
+        List<String> roles = jwtUtil.extractRoles(claims);
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+
+        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(principal, null, authorities);
+
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        logger.debug("Authenticated user from token: {}, Roles: {}", claims.getSubject(), roles);
+    }
 }
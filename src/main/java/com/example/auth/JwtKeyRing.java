@@ -0,0 +1,184 @@
+package com.example.auth;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.entity.JwtSigningKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+
+/**
+ * The ES256 keys tokens are signed and verified with, held as one immutable
+ * snapshot that {@link JwtKeyRotator} replaces whenever the key table changes.
+ * Signing and verification only read a volatile field: the verification key
+ * for a {@code kid} is a map lookup, and {@link JwtUtil} keeps a single parser
+ * that resolves keys through {@link #resolver()}.
+ *
+ * <p>A new key is published (in the snapshot and {@link #jwks()}) for
+ * {@code jwt.keys.publish-ahead} before it starts signing, so gateways that
+ * cache the JWKS already know it when the first token signed with it arrives.
+ */
+@Component
+public class JwtKeyRing {
+
+    private final ObjectMapper objectMapper;
+    private final Duration publishAhead;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * The key new tokens are signed with.
+     */
+    public record SigningKey(String kid, PrivateKey privateKey) {
+    }
+
+    private record Snapshot(SigningKey signing, Map<String, Key> verification, byte[] jwks) {
+    }
+
+    public JwtKeyRing(ObjectMapper objectMapper,
+                      @Value("${jwt.keys.publish-ahead:10m}") Duration publishAhead) {
+        this.objectMapper = objectMapper;
+        this.publishAhead = publishAhead;
+    }
+
+    /**
+     * Replaces the ring with these keys. The signing key is the newest one
+     * published for at least the publish-ahead period, or the oldest key if
+     * none has been (a fresh key table). Returns whether a key that was in
+     * the ring before has been dropped from it.
+     */
+    public boolean update(List<JwtSigningKey> keys, LocalDateTime now) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("The key ring needs at least one key");
+        }
+        List<JwtSigningKey> sorted = new ArrayList<>(keys);
+        sorted.sort(Comparator.comparing(JwtSigningKey::getCreatedAt));
+
+        LocalDateTime activeBefore = now.minus(publishAhead);
+        JwtSigningKey signing = sorted.get(0);
+        Map<String, Key> verification = new HashMap<>();
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (JwtSigningKey key : sorted) {
+            if (!key.getCreatedAt().isAfter(activeBefore)) {
+                signing = key;
+            }
+            ECPublicKey publicKey = (ECPublicKey) decodePublic(key.getPublicKey());
+            verification.put(key.getKid(), publicKey);
+            jwks.add(toJwk(key.getKid(), publicKey));
+        }
+        PrivateKey privateKey = decodePrivate(signing.getPrivateKey());
+        Snapshot previous = snapshot;
+        snapshot = new Snapshot(new SigningKey(signing.getKid(), privateKey), Map.copyOf(verification),
+                serialize(Map.of("keys", jwks)));
+        return previous != null && !verification.keySet().containsAll(previous.verification().keySet());
+    }
+
+    public SigningKey signingKey() {
+        return current().signing();
+    }
+
+    /**
+     * The public key for a token's {@code kid}; unknown or missing ids are
+     * rejected like a bad signature.
+     */
+    public Key verificationKey(String kid) {
+        Key key = kid == null ? null : current().verification().get(kid);
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * The public half of every key in the ring as a serialized JWK Set.
+     */
+    public byte[] jwks() {
+        return current().jwks();
+    }
+
+    SigningKeyResolverAdapter resolver() {
+        return new SigningKeyResolverAdapter() {
+            @Override
+            @SuppressWarnings("rawtypes")
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return verificationKey(header.getKeyId());
+            }
+        };
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("JWT signing keys not loaded yet");
+        }
+        return current;
+    }
+
+    private static Map<String, Object> toJwk(String kid, ECPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("kid", kid);
+        jwk.put("x", coordinate(key.getW().getAffineX()));
+        jwk.put("y", coordinate(key.getW().getAffineY()));
+        return jwk;
+    }
+
+    // RFC 7518: unsigned big-endian, left-padded to the 32-byte field size
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] padded = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, padded, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(padded);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the JWK set", e);
+        }
+    }
+
+    private static Key decodePublic(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT public key", e);
+        }
+    }
+
+    private static PrivateKey decodePrivate(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT private key", e);
+        }
+    }
+}
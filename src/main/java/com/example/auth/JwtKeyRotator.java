@@ -0,0 +1,138 @@
+package com.example.auth;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.example.entity.JwtSigningKey;
+import com.example.repo.JwtSigningKeyRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps {@link JwtKeyRing} in step with the key table. Every
+ * {@code jwt.keys.reload} it reloads the keys, adds a new one when the newest
+ * is due ({@code jwt.keys.rotation}, minus the publish-ahead period so the
+ * successor is published before it is needed), and deletes keys whose tokens
+ * have all expired. Any instance may rotate; two instances rotating at once
+ * just publish one extra key. When a key leaves the ring, whichever instance
+ * deleted it, the {@link VerifiedTokenCache} is cleared so tokens signed with
+ * it stop being accepted from the cache.
+ */
+@Service
+public class JwtKeyRotator {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRotator.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JwtSigningKeyRepository repository;
+    private final JwtKeyRing keyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Duration rotation;
+    private final Duration publishAhead;
+    private final Duration reload;
+    private final Duration accessTokenTtl;
+    private final ScheduledExecutorService scheduler;
+
+    public JwtKeyRotator(JwtSigningKeyRepository repository,
+                         JwtKeyRing keyRing,
+                         VerifiedTokenCache verifiedTokenCache,
+                         @Value("${jwt.keys.rotation:7d}") Duration rotation,
+                         @Value("${jwt.keys.publish-ahead:10m}") Duration publishAhead,
+                         @Value("${jwt.keys.reload:1m}") Duration reload,
+                         @Value("${jwt.access-token.ttl:15m}") Duration accessTokenTtl) {
+        this.repository = repository;
+        this.keyRing = keyRing;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.rotation = rotation;
+        this.publishAhead = publishAhead;
+        this.reload = reload;
+        this.accessTokenTtl = accessTokenTtl;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("jwt-keys-"));
+    }
+
+    // Tokens can be issued as soon as the web server accepts requests, before the application is ready
+    @PostConstruct
+    public void load() {
+        rotate(LocalDateTime.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long reloadMs = reload.toMillis();
+        scheduler.scheduleWithFixedDelay(this::reload, reloadMs, reloadMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void reload() {
+        try {
+            rotate(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            logger.warn("Could not reload JWT signing keys: {}", e.getMessage());
+        }
+    }
+
+    synchronized void rotate(LocalDateTime now) {
+        List<JwtSigningKey> keys = new ArrayList<>(repository.findAllByOrderByCreatedAtAsc());
+        if (keys.isEmpty() || keys.get(keys.size() - 1).getCreatedAt().isBefore(now.minus(rotation).plus(publishAhead))) {
+            JwtSigningKey key = repository.save(generateKey(now));
+            logger.info("Published JWT signing key {}", key.getKid());
+            keys.add(key);
+        }
+
+        // A key signs until its successor is active, and its tokens live one access token TTL longer;
+        // the reload period covers instances that have not picked up the successor yet
+        LocalDateTime retiredBefore = now.minus(publishAhead).minus(reload).minus(accessTokenTtl);
+        List<JwtSigningKey> live = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            boolean superseded = i + 1 < keys.size() && keys.get(i + 1).getCreatedAt().isBefore(retiredBefore);
+            if (superseded) {
+                repository.deleteById(keys.get(i).getKid());
+                logger.info("Retired JWT signing key {}", keys.get(i).getKid());
+            } else {
+                live.add(keys.get(i));
+            }
+        }
+        if (keyRing.update(live, now)) {
+            verifiedTokenCache.invalidateAll();
+        }
+    }
+
+    static JwtSigningKey generateKey(LocalDateTime now) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"), RANDOM);
+            KeyPair pair = generator.generateKeyPair();
+            byte[] id = new byte[12];
+            RANDOM.nextBytes(id);
+            String kid = Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+            return new JwtSigningKey(kid, pair.getPublic().getEncoded(), pair.getPrivate().getEncoded(), now);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("P-256 key generation not available", e);
+        }
+    }
+}
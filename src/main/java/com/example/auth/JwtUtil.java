@@ -5,67 +5,97 @@ package com.example.auth;
 
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtUtil {
 
-    private final Key key = Keys.hmacShaKeyFor("supersecretkeyforjportal12345678".getBytes(StandardCharsets.UTF_8));
+    public static final String SESSION_ID = "sid";
 
-    private final long jwtExpirationInMs = 1000 * 60 * 60 * 5; // 5 hours
+    // ES256 keys with a kid per token, so other services can verify against the published JWKS
+    private final JwtKeyRing keyRing;
+
+    // Access tokens are short-lived; sessions continue through rotating refresh tokens
+    @Value("${jwt.access-token.ttl:15m}")
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+
+    // JwtParser is immutable and thread-safe, so build it once; it looks the key up by kid
+    private final JwtParser parser;
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+            .setSigningKeyResolver(keyRing.resolver())
+            .build();
+    }
 
     // ✅ Generate token with username and roles
     
     public String generateToken(String username, List<String> roles) {
+        return generateToken(username, roles, null);
+    }
+
+    /**
+     * Access token bound to a login session: {@code sid} lets a logout revoke
+     * every access token of that session (see {@link TokenRevocationIndex}).
+     */
+    public String generateToken(String username, List<String> roles, String sessionId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("roles", roles);
+        if (sessionId != null) {
+            claims.put(SESSION_ID, sessionId);
+        }
         return createToken(claims, username);
     }
 
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
     // ✅ Helper method that was missing
     private String createToken(Map<String, Object> claims, String subject) {
+        JwtKeyRing.SigningKey key = keyRing.signingKey();
         return Jwts.builder()
+            .setHeaderParam(JwsHeader.KEY_ID, key.kid())
             .setClaims(claims)
             .setSubject(subject)
             .setIssuedAt(new Date(System.currentTimeMillis()))
-            .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationInMs))
-            .signWith(key, SignatureAlgorithm.HS256)
+            .setExpiration(new Date(System.currentTimeMillis() + accessTokenTtl.toMillis()))
+            .signWith(key.privateKey(), SignatureAlgorithm.ES256)
             .compact();
     }
 
+    /**
+     * Parses and verifies the token once. Callers that need several claims
+     * should hold on to the result instead of calling the extract* helpers
+     * repeatedly, each of which re-verifies the signature.
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public List<String> extractRoles(String token) {
-        Claims claims = Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+        return extractRoles(parseClaims(token));
+    }
 
+    public List<String> extractRoles(Claims claims) {
         return claims.get("roles", List.class);
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException e) {
             return false;
@@ -73,17 +103,14 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateClaims(parseClaims(token), userDetails);
+    }
+
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getExpiration();
-        return expiration.before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.example.auth;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-memory token buckets, one {@link AtomicLong} per key. Each bucket is
+ * stored as its theoretical arrival time (the GCRA form of a token bucket):
+ * a request advances it by one emission interval and is refused when that
+ * would put it more than a full period ahead of now. One CAS per request, no
+ * locks and no allocation once the key exists.
+ *
+ * <p>Buckets idle for longer than the longest period are full again, so
+ * evicting them loses nothing; the map is bounded by size as well.
+ */
+@Component
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public LocalRateLimiter(MeterRegistry registry,
+                            @Value("${auth.rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${auth.rate-limit.idle-expiry:15m}") Duration idleExpiry) {
+        this(maxKeys, idleExpiry, System::nanoTime);
+        CaffeineCacheMetrics.monitor(registry, buckets, "rateLimitBuckets");
+    }
+
+    LocalRateLimiter(long maxKeys, Duration idleExpiry, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .recordStats()
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public long tryAcquire(String key, Limit limit) {
+        long period = limit.period().toNanos();
+        long interval = period / limit.capacity();
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + interval;
+            long wait = next - now - period;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.auth;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.auth.RateLimiter.Limit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Throttles {@code POST /api/auth/login} per client IP and per account email
+ * before any password work happens, so a refused attempt costs a map lookup
+ * and a CAS instead of a BCrypt hash. The IP limit is checked first and needs
+ * no body parsing; the email limit slows credential stuffing spread over many
+ * addresses. Refusals answer 429 with Retry-After.
+ *
+ * <p>The client IP is {@code getRemoteAddr()}: behind a proxy, enable
+ * {@code server.forward-headers-strategy} so it is the real client.
+ */
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    static final String LOGIN_PATH = "/api/auth/login";
+
+    // Login bodies are a few dozen bytes; anything much larger is refused unread
+    private static final int MAX_BODY_BYTES = 4096;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final Limit perIp;
+    private final Limit perEmail;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByEmail;
+
+    public LoginRateLimitFilter(RateLimiter rateLimiter,
+                                ObjectMapper objectMapper,
+                                MeterRegistry registry,
+                                @Value("${auth.rate-limit.ip.capacity:20}") int ipCapacity,
+                                @Value("${auth.rate-limit.ip.period:1m}") Duration ipPeriod,
+                                @Value("${auth.rate-limit.email.capacity:5}") int emailCapacity,
+                                @Value("${auth.rate-limit.email.period:1m}") Duration emailPeriod) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.perIp = new Limit(ipCapacity, ipPeriod);
+        this.perEmail = new Limit(emailCapacity, emailPeriod);
+        this.rejectedByIp = Counter.builder("auth.rate_limit.rejected").tag("key", "ip").register(registry);
+        this.rejectedByEmail = Counter.builder("auth.rate_limit.rejected").tag("key", "email").register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !("POST".equals(request.getMethod()) && LOGIN_PATH.equals(request.getServletPath()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long wait = rateLimiter.tryAcquire("ip:" + request.getRemoteAddr(), perIp);
+        if (wait > 0) {
+            rejectedByIp.increment();
+            reject(response, wait);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        String email = emailOf(body);
+        if (email != null) {
+            wait = rateLimiter.tryAcquire("email:" + email, perEmail);
+            if (wait > 0) {
+                rejectedByEmail.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+        filterChain.doFilter(new BufferedBodyRequest(request, body), response);
+    }
+
+    private String emailOf(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null; // malformed JSON is the controller's to reject
+        }
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many login attempts; retry in " + seconds + " s\"}");
+    }
+
+    /**
+     * Replays the body the filter already read, for the controller.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so it is all available at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
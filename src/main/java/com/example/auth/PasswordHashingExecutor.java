@@ -0,0 +1,86 @@
+package com.example.auth;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs BCrypt hashing and verification (login, registration) on a small pool
+ * of its own, so a login storm can occupy at most these threads and a short
+ * queue instead of every Tomcat worker. Tasks should be the hashing alone:
+ * anything that waits on the database belongs on another executor. Work beyond the queue is refused straight away with
+ * {@link HashingSaturatedException}, which clients see as 503 + Retry-After.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(MeterRegistry registry,
+                                   @Value("${auth.hashing.threads:0}") int threads,
+                                   @Value("${auth.hashing.queue-capacity:64}") int queueCapacity) {
+        // BCrypt is pure CPU: never more workers than cores (0 means half of them)
+        int cores = Runtime.getRuntime().availableProcessors();
+        int workers = threads > 0 ? Math.min(threads, cores) : Math.max(1, cores / 2);
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rejected = Counter.builder("auth.hashing.rejected").register(registry);
+        Gauge.builder("auth.hashing.queued", executor, pool -> pool.getQueue().size()).register(registry);
+        Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    /**
+     * Queues the task, or throws {@link HashingSaturatedException} at once when
+     * the pool and its queue are full. The returned future fails with whatever
+     * the task threw.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(task.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    // Tasks may authenticate; pool threads must not carry that into the next one
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new HashingSaturatedException();
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The hashing pool is full; the caller should retry shortly.
+     */
+    public static class HashingSaturatedException extends RuntimeException {
+
+        public HashingSaturatedException() {
+            super("Too many sign-in requests; please retry shortly");
+        }
+    }
+}
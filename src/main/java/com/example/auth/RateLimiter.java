@@ -0,0 +1,25 @@
+package com.example.auth;
+
+import java.time.Duration;
+
+/**
+ * Admission check for a keyed rate limit. {@link LocalRateLimiter} keeps the
+ * buckets in this JVM; a shared store (Redis and the like) can implement the
+ * same contract once several instances must enforce one limit together.
+ */
+public interface RateLimiter {
+
+    /**
+     * Up to {@code capacity} requests at once, refilled evenly over {@code period}.
+     */
+    record Limit(int capacity, Duration period) {
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     *
+     * @return 0 if the request may proceed, otherwise how many nanoseconds
+     *         until the next token is available
+     */
+    long tryAcquire(String key, Limit limit);
+}
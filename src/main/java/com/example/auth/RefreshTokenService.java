@@ -0,0 +1,253 @@
+package com.example.auth;
+
+import static com.example.config.ReplicaRoutingDataSource.readFromPrimary;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.entity.RefreshToken;
+import com.example.entity.User;
+import com.example.entity.UserRevocation;
+import com.example.repo.RefreshTokenRepository;
+import com.example.repo.UserRepository;
+import com.example.repo.UserRevocationRepository;
+import com.example.service.AuthResponse;
+import com.example.service.CustomUserDetailsService;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Login sessions made of a short-lived access token and a rotating refresh
+ * token. Refresh tokens are opaque random strings stored as SHA-256 hashes;
+ * each one is good for a single exchange. Revoked sessions are mirrored into
+ * {@link TokenRevocationIndex}: locally at once, and on every instance by a
+ * poll of the table every few seconds (which on startup also rebuilds the
+ * index), so request authentication stays in memory.
+ *
+ * <p>A change to a user (roles, password, removal) revokes all of the user's
+ * sessions in the table, so the same poll carries it to every instance. The
+ * poll also drops cached details and roles of users with newly revoked
+ * sessions, so their next login or refresh there reads the current roles.
+ * A login on another instance in the few seconds before its next poll can
+ * still be issued the old roles.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final UserRevocationRepository userRevocationRepository;
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationIndex revocationIndex;
+    private final CustomUserDetailsService userDetailsService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate newTransaction;
+    private final Duration refreshTokenTtl;
+    private final Duration revocationPoll;
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService maintenance;
+
+    private volatile LocalDateTime lastSync;
+
+    /**
+     * A new login session: its id (the access tokens' {@code sid}) and first refresh token.
+     */
+    public record Session(String sessionId, String refreshToken) {
+    }
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               UserRevocationRepository userRevocationRepository,
+                               JwtUtil jwtUtil,
+                               TokenRevocationIndex revocationIndex,
+                               CustomUserDetailsService userDetailsService,
+                               EntityManagerFactory entityManagerFactory,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${jwt.refresh-token.ttl:14d}") Duration refreshTokenTtl,
+                               @Value("${jwt.revocation-poll:5s}") Duration revocationPoll) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.userRevocationRepository = userRevocationRepository;
+        this.jwtUtil = jwtUtil;
+        this.revocationIndex = revocationIndex;
+        this.userDetailsService = userDetailsService;
+        this.entityManagerFactory = entityManagerFactory;
+        // Called after the user change has committed, so it cannot join that transaction
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.revocationPoll = revocationPoll;
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("refresh-tokens-"));
+    }
+
+    public Session startSession(String username) {
+        String sessionId = UUID.randomUUID().toString();
+        return new Session(sessionId, issue(username, sessionId));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh
+     * token. Roles are read afresh from the database.
+     * Presenting a token that was already exchanged revokes its whole session.
+     */
+    public AuthResponse refresh(String presented) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(presented))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Unknown refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+        if (token.getRevokedAt() != null || token.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expired or revoked");
+        }
+        if (token.getUsedAt() != null || refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            logger.warn("Refresh token reused for user {}; revoking session {}", token.getUsername(), token.getFamilyId());
+            revokeSession(token.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token already used");
+        }
+        User user = userRepository.findByEmail(token.getUsername())
+                .orElseThrow(() -> new InvalidRefreshTokenException("User no longer exists"));
+
+        List<String> roles = user.getRoles().stream().map(role -> role.getName().toUpperCase()).toList();
+        AuthResponse response = new AuthResponse(jwtUtil.generateToken(user.getEmail(), roles, token.getFamilyId()), user);
+        response.setRefreshToken(issue(user.getEmail(), token.getFamilyId()));
+        return response;
+    }
+
+    /**
+     * Ends the session the refresh token belongs to; its access tokens stop
+     * working immediately on this instance and within the poll interval elsewhere.
+     * Unknown tokens are ignored.
+     */
+    public void logout(String presented) {
+        refreshTokenRepository.findByTokenHash(hash(presented))
+                .ifPresent(token -> revokeSession(token.getFamilyId()));
+    }
+
+    /**
+     * Ends every session of the user: here through {@link TokenRevocationIndex},
+     * elsewhere with the next poll. Meant for after a change to the user commits.
+     * The change is recorded as well, so the other instances drop their cached
+     * details even when the user had no session left to revoke.
+     */
+    public void revokeAllSessions(String username) {
+        revocationIndex.revokeTokensFor(username);
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                refreshTokenRepository.revokeAllFor(username, now);
+                userRevocationRepository.save(new UserRevocation(username, now));
+            });
+        } catch (RuntimeException e) {
+            // Still revoked on this instance; other instances fall back to access token expiry
+            logger.warn("Could not revoke the sessions of {}: {}", username, e.getMessage());
+        }
+    }
+
+    private void revokeSession(String sessionId) {
+        refreshTokenRepository.revokeFamily(sessionId, LocalDateTime.now());
+        revocationIndex.revokeSession(sessionId, accessTokensValidUntil());
+    }
+
+    private String issue(String username, String sessionId) {
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(new RefreshToken(hash(token), sessionId, username, now, now.plus(refreshTokenTtl)));
+        return token;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // Sessions revoked within one access token lifetime may still have live access tokens
+        lastSync = LocalDateTime.now().minus(jwtUtil.getAccessTokenTtl());
+        syncRevocations();
+        long pollMs = revocationPoll.toMillis();
+        maintenance.scheduleWithFixedDelay(this::syncRevocations, pollMs, pollMs, TimeUnit.MILLISECONDS);
+        maintenance.scheduleWithFixedDelay(this::purge, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        maintenance.shutdownNow();
+    }
+
+    private void syncRevocations() {
+        try {
+            // Overlap by one poll so a revocation committing during the last query is not missed
+            LocalDateTime since = lastSync.minus(revocationPoll);
+            lastSync = LocalDateTime.now();
+            long until = accessTokensValidUntil();
+            // On the primary: the overlap covers a commit racing the query, not replication lag
+            List<String> sessions = readFromPrimary(() -> refreshTokenRepository.findFamiliesRevokedSince(since));
+            sessions.forEach(sessionId -> revocationIndex.revokeSession(sessionId, until));
+            Cache secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+            // Removed users have no row to find; their cached details are dropped by name
+            readFromPrimary(() -> userRevocationRepository.findUsernamesRevokedSince(since))
+                    .forEach(userDetailsService::evict);
+            for (User user : readFromPrimary(() -> userRepository.findWithTokensRevokedSince(since))) {
+                userDetailsService.evict(user.getEmail());
+                secondLevelCache.evictCollectionData(User.class.getName() + ".roles", user.getId());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not sync revoked sessions: {}", e.getMessage());
+        }
+    }
+
+    private void purge() {
+        try {
+            revocationIndex.purgeExpired();
+            refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+            userRevocationRepository.deleteRevokedBefore(LocalDateTime.now().minus(jwtUtil.getAccessTokenTtl()));
+        } catch (RuntimeException e) {
+            logger.warn("Could not purge expired refresh tokens: {}", e.getMessage());
+        }
+    }
+
+    private long accessTokensValidUntil() {
+        return System.currentTimeMillis() + jwtUtil.getAccessTokenTtl().toMillis();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * The refresh token cannot be exchanged; the client has to log in again.
+     */
+    public static class InvalidRefreshTokenException extends RuntimeException {
+
+        public InvalidRefreshTokenException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.auth;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,6 +11,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -21,14 +24,18 @@ public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
 
-    public SecurityConfig(JwtAuthFilter jwtAuthFilter) {
+    private final LoginRateLimitFilter loginRateLimitFilter;
+
+    public SecurityConfig(JwtAuthFilter jwtAuthFilter, LoginRateLimitFilter loginRateLimitFilter) {
         this.jwtAuthFilter = jwtAuthFilter;
+        this.loginRateLimitFilter = loginRateLimitFilter;
     }
 
-    // BCrypt password encoder bean
+    // BCrypt password encoder bean. Hashes with a lower cost than configured are
+    // rehashed on the next successful login (see CustomUserDetailsService.updatePassword).
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength, MeterRegistry registry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), registry);
     }
 
     // AuthenticationManager bean
@@ -44,9 +51,13 @@ public class SecurityConfig {
             .csrf().disable()
             .authorizeHttpRequests()
                 .requestMatchers("/error").permitAll()  // Allow error path publicly
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // Completing an already authorized SSE stream
                 .requestMatchers("/api/auth/**").permitAll()  // Public auth endpoints
+                .requestMatchers("/.well-known/jwks.json").permitAll()  // Public signing keys
                 .requestMatchers("/api/public/**").permitAll()  // Example: add your other public endpoints here
                 .requestMatchers("/api/profile/**").hasRole("STUDENT")
+                .requestMatchers("/api/recruiter/**").hasAnyRole("RECRUITER", "ADMIN")
+                .requestMatchers("/api/resumes/search").hasAnyRole("RECRUITER", "ADMIN")  // Covers every student's resume text
                 .anyRequest().authenticated()
             .and()
             .sessionManagement()
@@ -59,7 +70,8 @@ public class SecurityConfig {
                     response.getWriter().write("{\"error\":\"" + accessDeniedException.getMessage() + "\"}");
                 })
             .and()
-            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(loginRateLimitFilter, JwtAuthFilter.class);  // Refuse throttled logins before any auth work
 
         return http.build();
     }
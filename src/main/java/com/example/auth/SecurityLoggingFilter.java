@@ -2,6 +2,8 @@ package com.example.auth;
 
 import java.io.IOException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -13,18 +15,28 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 
+/**
+ * Logs who each request is authenticated as. One line per request, so DEBUG
+ * only (and sampled in the prod logging profile); with DEBUG off it costs a
+ * level check.
+ */
 @Component
 public class SecurityLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecurityLoggingFilter.class);
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null) {
-            System.out.println("Authenticated user: " + auth.getName() + ", authorities: " + auth.getAuthorities());
-        } else {
-            System.out.println("No authenticated user found");
+        if (logger.isDebugEnabled()) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null) {
+                logger.debug("Authenticated user: {}, authorities: {}", auth.getName(), auth.getAuthorities());
+            } else {
+                logger.debug("No authenticated user found");
+            }
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
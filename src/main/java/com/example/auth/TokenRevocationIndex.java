@@ -0,0 +1,133 @@
+package com.example.auth;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * In-memory revocation checks, so validating an access token never touches
+ * the database:
+ *
+ * <ul>
+ * <li>A "not before" watermark per user. Revoking a user's tokens records
+ * the current second; any token issued in an earlier second is rejected.
+ * This lets the stateless auth path honour role changes without loading the
+ * user. {@code iat} only has second precision, so tokens issued within the
+ * same second as the revocation stay valid; a login right after a role
+ * change must not be rejected.</li>
+ * <li>Revoked login sessions ({@code sid}), after a logout or a reused refresh
+ * token. An exact map of session ids sits behind a Bloom filter, so the
+ * common case (a session that was never revoked) is answered from a few bit
+ * reads. A session only has to stay listed until its last access token
+ * expires; {@link #purgeExpired()} drops those and rebuilds the filter.</li>
+ * </ul>
+ */
+@Component
+public class TokenRevocationIndex {
+
+    private static final int BLOOM_BITS = 1 << 20;  // 128 KB; under 1% false positives up to ~100k sessions
+    private static final int BLOOM_HASHES = 5;
+
+    private final Map<String, Long> notBeforeSeconds = new ConcurrentHashMap<>();
+
+    // Session id -> time (ms) after which no access token of the session can still be valid
+    private final Map<String, Long> revokedSessions = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray bloom = new AtomicLongArray(BLOOM_BITS / 64);
+
+    /**
+     * Invalidates every token issued to this user up to now.
+     */
+    public void revokeTokensFor(String username) {
+        long now = System.currentTimeMillis() / 1000;
+        notBeforeSeconds.merge(username, now, Math::max);
+    }
+
+    /**
+     * Invalidates every access token carrying this session id.
+     *
+     * @param untilMillis when the last of those tokens expires
+     */
+    public void revokeSession(String sessionId, long untilMillis) {
+        // Map first: a concurrent rebuild re-adds everything in the map after swapping filters
+        revokedSessions.merge(sessionId, untilMillis, Math::max);
+        addToBloom(bloom, sessionId);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        Long watermark = notBeforeSeconds.get(claims.getSubject());
+        if (watermark != null) {
+            Date issuedAt = claims.getIssuedAt();
+            if (issuedAt == null || issuedAt.getTime() / 1000 < watermark) {
+                return true;
+            }
+        }
+        String sessionId = claims.get(JwtUtil.SESSION_ID, String.class);
+        return sessionId != null && mightContain(bloom, sessionId) && revokedSessions.containsKey(sessionId);
+    }
+
+    /**
+     * Forgets sessions whose access tokens have all expired, and rebuilds the
+     * Bloom filter (which cannot delete) from what is left.
+     */
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedSessions.values().removeIf(until -> until < now);
+        AtomicLongArray rebuilt = new AtomicLongArray(BLOOM_BITS / 64);
+        revokedSessions.keySet().forEach(sessionId -> addToBloom(rebuilt, sessionId));
+        bloom = rebuilt;
+        // Sessions revoked while the new filter was being built went into the old one
+        revokedSessions.keySet().forEach(sessionId -> addToBloom(rebuilt, sessionId));
+    }
+
+    int revokedSessionCount() {
+        return revokedSessions.size();
+    }
+
+    private static void addToBloom(AtomicLongArray bits, String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private static boolean mightContain(AtomicLongArray bits, String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a followed by a 64-bit finalizer, split into two halves for double hashing
+    private static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
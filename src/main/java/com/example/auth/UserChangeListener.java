@@ -0,0 +1,52 @@
+package com.example.auth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.example.config.TransactionCallbacks;
+import com.example.entity.User;
+import com.example.service.CustomUserDetailsService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA callbacks on {@link User}. Hibernate resolves this listener from the
+ * Spring context, so it can reach the auth components directly.
+ * Role collection changes are routed here by {@link UserRolesChangeRegistrar}.
+ */
+@Component
+public class UserChangeListener {
+
+    @Autowired
+    private TokenRevocationIndex tokenRevocationIndex;
+
+    // Lazy: Hibernate creates this listener while the EntityManagerFactory that
+    // repositories need is still being built
+    @Lazy
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Lazy
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @PostPersist
+    public void onUserSaved(User user) {
+        userDetailsService.evict(user.getEmail());
+    }
+
+    // Tokens carry the roles they were issued with, so any change to the user
+    // (roles, password, removal) must invalidate what is already out there:
+    // at once on this instance, and through the stored sessions on the others.
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        String email = user.getEmail();
+        userDetailsService.evict(email);
+        tokenRevocationIndex.revokeTokensFor(email);
+        TransactionCallbacks.afterCommit(() -> refreshTokenService.revokeAllSessions(email));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.auth;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.entity.User;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JPA {@code @PostUpdate} does not fire when only {@code User.roles} changes,
+ * because the owning row is not dirty. This hooks Hibernate's collection
+ * events so a role change reaches {@link UserChangeListener} as well.
+ */
+@Component
+public class UserRolesChangeRegistrar {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final UserChangeListener userChangeListener;
+
+    public UserRolesChangeRegistrar(EntityManagerFactory entityManagerFactory,
+                                    UserChangeListener userChangeListener) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.userChangeListener = userChangeListener;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE,
+                (PostCollectionUpdateEventListener) this::onCollectionChanged);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE,
+                (PostCollectionRecreateEventListener) this::onCollectionChanged);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE,
+                (PostCollectionRemoveEventListener) this::onCollectionChanged);
+    }
+
+    private void onCollectionChanged(AbstractCollectionEvent event) {
+        // The role is not yet set on a collection recreated for a new row;
+        // roles is the only collection User has, so that case is still a role change
+        String role = event.getCollection().getRole();
+        if (event.getAffectedOwnerOrNull() instanceof User user && (role == null || role.endsWith(".roles"))) {
+            userChangeListener.onUserChanged(user);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.config;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramGauges;
+
+@Configuration
+public class ConnectionPoolMetricsConfig {
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    /**
+     * The in-memory registry behind /actuator/metrics reports only count, total
+     * and max of a timer. This publishes the acquire-time percentiles and SLO
+     * buckets configured in application.properties as gauges
+     * ({@code hikaricp.connections.acquire.percentile} by {@code phi},
+     * {@code .histogram} by {@code le}), so they can be read there. Drop it if a
+     * registry with native histograms (Prometheus) is added.
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> connectionAcquireHistogram() {
+        return registry -> registry.config().onMeterAdded(meter -> {
+            if (meter instanceof Timer timer && ACQUIRE_TIMER.equals(meter.getId().getName())) {
+                HistogramGauges.registerWithCommonFormat(timer, registry);
+            }
+        });
+    }
+}
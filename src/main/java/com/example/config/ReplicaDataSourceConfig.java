@@ -0,0 +1,75 @@
+package com.example.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read replicas, enabled by listing their JDBC URLs in
+ * {@code datasource.replicas.urls}. Replaces Boot's single pool with the
+ * primary pool (same {@code spring.datasource.*} settings as before) plus one
+ * pool per replica copied from it, behind {@link ReplicaRoutingDataSource}.
+ * Without replicas this class stays out of the way.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replicas.urls")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             MeterRegistry registry,
+                                                             @Value("${datasource.replicas.urls}") List<String> urls,
+                                                             @Value("${datasource.replicas.username:}") String username,
+                                                             @Value("${datasource.replicas.password:}") String password,
+                                                             @Value("${datasource.replicas.read-your-writes:5s}") Duration readYourWrites,
+                                                             @Value("${datasource.replicas.health-check:5s}") Duration healthCheck) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            String prefix = primaryDataSource.getPoolName() != null ? primaryDataSource.getPoolName() + "-" : "";
+            String name = prefix + "replica-" + i;
+            config.setPoolName(name);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+            config.setPassword(username.isEmpty() ? properties.determinePassword() : password);
+            // Start even if a replica is down; the health check brings it into rotation later
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replicas.put(name, new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWrites, healthCheck, registry);
+    }
+
+    // What JPA and everything else use; defers routing until the transaction is set up
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
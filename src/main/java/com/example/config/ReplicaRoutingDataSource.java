@@ -0,0 +1,200 @@
+package com.example.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends connections for read-only transactions ({@code @Transactional(readOnly = true)},
+ * and Spring Data's read methods, which are read-only by default) to the
+ * replicas in round robin; everything else goes to the primary.
+ *
+ * <ul>
+ * <li>Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager asks for a connection before the transaction is
+ * marked read-only, and the proxy defers that to the first statement.</li>
+ * <li>Read-your-writes: after a user's read-write transaction commits, that
+ * user's reads stay on the primary for the configured window, which should
+ * cover the usual replication lag. Other users may see the change later.</li>
+ * <li>A replica that fails to hand out a connection or a periodic validity
+ * check is skipped until a later check succeeds; with no healthy replica,
+ * reads fall back to the primary.</li>
+ * <li>Reads whose result outlives the request, such as a cache load or a
+ * "changed since" poll that advances its own watermark, can be pinned to the
+ * primary with {@link #readFromPrimary}: a lagging replica would otherwise
+ * make them keep, or skip for good, a change that has already committed.</li>
+ * </ul>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    // Users with a recently committed write; the entry's age is the window
+    private final Cache<String, Boolean> recentWriters;
+
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+    private final ScheduledExecutorService healthChecks;
+
+    private static final class Replica {
+
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    Duration readYourWrites,
+                                    Duration healthCheckInterval,
+                                    MeterRegistry registry) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(readYourWrites)
+                .build();
+        this.primaryReads = Counter.builder("datasource.reads").tag("target", "primary").register(registry);
+        this.replicaReads = Counter.builder("datasource.reads").tag("target", "replica").register(registry);
+        Gauge.builder("datasource.replicas.healthy", this.replicas, list -> list.stream().filter(r -> r.healthy).count())
+                .register(registry);
+
+        this.healthChecks = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-health-"));
+        long intervalMs = healthCheckInterval.toMillis();
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs {@code reads} with every connection it opens taken from the
+     * primary, read-only transactions included. The routing happens when the
+     * first statement runs, so a transaction started inside {@code reads} is
+     * covered; one already holding a replica connection is not moved.
+     */
+    public static <T> T readFromPrimary(Supplier<T> reads) {
+        Boolean outer = PRIMARY_READS.get();
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (outer == null) {
+                PRIMARY_READS.remove();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(username, password);
+    }
+
+    private Connection route(String username, String password) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            String user = currentUser();
+            if (user != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionCallbacks.afterCommit(() -> recentWriters.put(user, Boolean.TRUE));
+            }
+            return connect(primary, username, password);
+        }
+
+        String user = currentUser();
+        boolean pinned = PRIMARY_READS.get() != null;
+        if (!pinned && (user == null || recentWriters.getIfPresent(user) == null)) {
+            int count = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), count);
+            for (int i = 0; i < count; i++) {
+                Replica replica = replicas.get((start + i) % count);
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    Connection connection = connect(replica.dataSource, username, password);
+                    replicaReads.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    replica.healthy = false;
+                    logger.warn("Replica {} unavailable, skipping it until it passes a check: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+        primaryReads.increment();
+        return connect(primary, username, password);
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(2);
+            } catch (SQLException | RuntimeException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                logger.info("Replica {} is {}", replica.name, healthy ? "back in rotation" : "out of rotation");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        healthChecks.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean known = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        return known ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Keeps roughly one in {@code oneIn} events from loggers under
+ * {@code loggerPrefix} at or below {@code level}, for per-request log lines
+ * on hot paths that would otherwise dominate logging cost under load. ERROR
+ * events are never sampled, whatever {@code level} says. Configured in
+ * logback-spring.xml.
+ *
+ * <p>Turbo filters run on every logging call, before the level check, so the
+ * common cases (another logger, a disabled level) return without touching
+ * shared state, and the sampling decision is a thread-local random draw.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "";
+    private Level level = Level.WARN;
+    private int oneIn = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params,
+                              Throwable t) {
+        if (eventLevel == null
+                || eventLevel.isGreaterOrEqual(Level.ERROR)
+                || !eventLevel.isGreaterOrEqual(logger.getEffectiveLevel())  // disabled anyway; let the level check say so
+                || level.toInt() < eventLevel.toInt()
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return oneIn <= 1 || ThreadLocalRandom.current().nextInt(oneIn) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.WARN);
+    }
+
+    public void setOneIn(int oneIn) {
+        this.oneIn = oneIn;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.config;
+
+import java.net.URI;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Hibernate's second-level and query caches through hibernate-jcache on
+ * Caffeine's JCache provider. Only entities and collections annotated with
+ * {@code @Cache} are cached; regions are sized in the Caffeine config file at
+ * {@code jpa.cache.config}, and a region missing from it fails startup. Set
+ * {@code jpa.cache.enabled=false} to run without it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jpa.cache.enabled", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public CacheManager hibernateCacheManager(@Value("${jpa.cache.config:classpath:hibernate-cache.conf}") URI config) {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(config, SecondLevelCacheConfig.class.getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+        };
+    }
+
+    // Hibernate opens its regions while the entity manager factory starts, so they all exist by now
+    @Bean
+    public SmartInitializingSingleton hibernateCacheMetrics(CacheManager hibernateCacheManager, MeterRegistry registry) {
+        return () -> {
+            for (String region : hibernateCacheManager.getCacheNames()) {
+                Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+                CaffeineCacheMetrics.monitor(registry, cache, region, Tags.of("cache.manager", "hibernate"));
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.config;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for JPA listeners that must only act on committed changes.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or right away
+     * when there is no transaction. Rolled back changes never reach it.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Returns an accumulator bound to the current transaction under {@code key},
+     * creating it on first use. It is handed to {@code onCommit} once after the
+     * transaction commits and discarded on rollback, so listeners that fire
+     * for many rows can batch their follow-up work. Without a transaction the
+     * caller gets a fresh accumulator that is flushed immediately after
+     * {@code use} runs.
+     */
+    public static <T> void accumulate(Object key, Supplier<T> factory, Consumer<T> use, Consumer<T> onCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            T accumulator = factory.get();
+            use.accept(accumulator);
+            onCommit.accept(accumulator);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        T accumulator = (T) TransactionSynchronizationManager.getResource(key);
+        if (accumulator == null) {
+            T created = factory.get();
+            TransactionSynchronizationManager.bindResource(key, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    onCommit.accept(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                }
+            });
+            accumulator = created;
+        }
+        use.accept(accumulator);
+    }
+}
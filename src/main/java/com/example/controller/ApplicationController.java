@@ -1,18 +1,18 @@
 package com.example.controller;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDate;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.dto.ApplicationDTO;
-import com.example.entity.Application;
-import com.example.repo.ApplicationRepository;
+import com.example.dto.ApplicationPageDTO;
+import com.example.service.ApplicationService;
 
 @RestController
 @RequestMapping("/api/applications")
@@ -20,24 +20,19 @@ import com.example.repo.ApplicationRepository;
 public class ApplicationController {
 
     @Autowired
-    private ApplicationRepository applicationRepo;
+    private ApplicationService applicationService;
 
+    // Keyset-paginated; pass the returned nextCursor to fetch the following page
     @GetMapping("/student/{studentId}")
-    public List<ApplicationDTO> getApplicationsByStudent(@PathVariable Long studentId) {
-        List<Application> applications = applicationRepo.findByStudentId(studentId);
-        
-        return applications.stream()
-            .filter(app -> app.getJob() != null) // prevent NullPointerException
-            .map(app -> {
-                ApplicationDTO dto = new ApplicationDTO();
-                dto.setJobTitle(app.getJob().getTitle());
-                dto.setCompany(app.getJob().getCompany());
-                dto.setLocation(app.getJob().getLocation());
-                dto.setAppliedDate(app.getAppliedDate());
-                dto.setStatus(app.getStatus());
-                dto.setJobId(app.getJob().getId());
-                return dto;
-            })
-            .collect(Collectors.toList());
+    public ApplicationPageDTO getApplicationsByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String sort) {
+        return applicationService.getApplicationPage(studentId, status, from, to, cursor, size,
+                !"asc".equalsIgnoreCase(sort));
     }
 }
@@ -3,6 +3,8 @@ package com.example.controller;
 import java.nio.file.AccessDeniedException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -15,6 +17,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.auth.AuthService;
+import com.example.auth.RefreshTokenService;
 import com.example.entity.Role;
 import com.example.entity.User;
 import com.example.repo.RoleRepository;
@@ -32,34 +35,53 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    // Both endpoints hash with BCrypt on the bounded hashing pool and release the
+    // request thread meanwhile; a full pool answers 503 right away.
+
     // === REGISTRATION ===
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@RequestBody RegisterRequest request) {
         String roleName = "ROLE_" + request.getRole().toUpperCase();
-        authService.register(
+        return authService.register(
             request.getFullName(),
             request.getEmail(),
             request.getPassword(),
             roleName
-        );
-        return ResponseEntity.ok(Map.of("message", "User registered successfully as " + request.getRole()));
+        ).<ResponseEntity<?>>thenApply(message -> ResponseEntity.ok(Map.of("message", "User registered successfully as " + request.getRole())));
     }
 
     // === LOGIN ===
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
-        try {
-            String roleName = "ROLE_" + request.getRole().toUpperCase();
-            AuthResponse response = authService.login(
-                request.getEmail(),
-                request.getPassword(),
-                roleName
-            );
-            return ResponseEntity.ok(response);
-        } catch (BadCredentialsException | AccessDeniedException e) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest request) {
+        String roleName = "ROLE_" + request.getRole().toUpperCase();
+        return authService.login(
+            request.getEmail(),
+            request.getPassword(),
+            roleName
+        ).<ResponseEntity<?>>thenApply(ResponseEntity::ok).exceptionally(AuthController::loginFailed);
+    }
+
+    // === REFRESH: exchange a refresh token for a new access + refresh token pair ===
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody Map<String, String> request) {
+        return ResponseEntity.ok(refreshTokenService.refresh(request.getOrDefault("refreshToken", "")));
+    }
+
+    // === LOGOUT: ends the session of the given refresh token, including its access tokens ===
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody Map<String, String> request) {
+        refreshTokenService.logout(request.getOrDefault("refreshToken", ""));
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseEntity<?> loginFailed(Throwable error) {
+        Throwable e = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (e instanceof BadCredentialsException || e instanceof AccessDeniedException) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "Login failed: " + e.getMessage()));
         }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "Login failed: " + e.getMessage()));
     }
 }
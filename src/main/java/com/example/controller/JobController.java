@@ -0,0 +1,27 @@
+package com.example.controller;
+
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.dto.JobDTO;
+import com.example.service.JobService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/jobs")
+@CrossOrigin(origins = "http://localhost:5173")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final JobService jobService;
+
+    // GET: A single posting (usually from the second-level cache)
+    @GetMapping("/{id}")
+    public JobDTO getJob(@PathVariable Long id) {
+        return jobService.getJob(id);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.dto.JobSearchResultDTO;
+import com.example.search.JobSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/jobs")
+@CrossOrigin(origins = "http://localhost:5173")
+@RequiredArgsConstructor
+public class JobSearchController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final JobSearchIndex jobSearchIndex;
+
+    // GET: Full-text search with optional facet filters, served from the search index.
+    // Pages past JobSearchIndex.MAX_RESULT_DEPTH come back with no hits, so a client paging on stops
+    @GetMapping("/search")
+    public JobSearchResultDTO search(@RequestParam(required = false) String q,
+                                     @RequestParam(required = false) String location,
+                                     @RequestParam(required = false) String jobType,
+                                     @RequestParam(required = false) String company,
+                                     @RequestParam(defaultValue = "0") int page,
+                                     @RequestParam(defaultValue = "20") int size) {
+        Map<String, String> filters = new HashMap<>();
+        filters.put(JobSearchIndex.LOCATION, location);
+        filters.put(JobSearchIndex.JOB_TYPE, jobType);
+        filters.put(JobSearchIndex.COMPANY, company);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return jobSearchIndex.search(q, filters, Math.max(0, page), pageSize);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.auth.JwtKeyRing;
+
+/**
+ * Publishes the public JWT signing keys so gateways and other services can
+ * verify access tokens locally.
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    public JwksController(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    // Cacheable for well under jwt.keys.publish-ahead, so a new key is seen before it signs
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(keyRing.jwks());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.dto.JobMatchDTO;
+import com.example.service.MatchingService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/matching")
+@CrossOrigin(origins = "http://localhost:5173")
+@RequiredArgsConstructor
+public class MatchingController {
+
+    private final MatchingService matchingService;
+
+    // GET: Best matching jobs for a student's skills
+    @GetMapping("/students/{studentId}/jobs")
+    public List<JobMatchDTO> getMatchingJobs(@PathVariable Long studentId,
+                                             @RequestParam(defaultValue = "10") int k) {
+        return matchingService.getTopJobsForStudent(studentId, k);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.dto.NotificationPageDTO;
+import com.example.entity.Student;
+import com.example.push.StudentEventBus;
+import com.example.repo.StudentRepository;
+import com.example.service.NotificationService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@RestController
+@RequestMapping("/api/notifications")
+@CrossOrigin(origins = "http://localhost:3000") // allow React to access backend
+public class NotificationController {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private StudentEventBus eventBus;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    // Server-Sent Events for the logged-in student: "notification" and "application-status".
+    // Browsers pass the JWT as ?access_token= since EventSource cannot set headers.
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication) {
+        Student student = studentRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new EntityNotFoundException("No student profile for " + authentication.getName()));
+        return eventBus.subscribe(student.getId());
+    }
+
+    // Keyset-paginated; pass the returned nextCursor to fetch the following page
+    @GetMapping("/student/{studentId}")
+    public NotificationPageDTO getInbox(
+            @PathVariable Long studentId,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        requireOwnInbox(studentId, authentication);
+        return notificationService.getInbox(studentId, unreadOnly, cursor, size);
+    }
+
+    // The count is served from memory (the ownership check is one indexed lookup); safe for the navbar to poll
+    @GetMapping("/student/{studentId}/unread-count")
+    public Map<String, Long> getUnreadCount(@PathVariable Long studentId, Authentication authentication) {
+        requireOwnInbox(studentId, authentication);
+        return Map.of("unread", notificationService.getUnreadCount(studentId));
+    }
+
+    @PostMapping("/student/{studentId}/read")
+    public Map<String, Integer> markRead(@PathVariable Long studentId, @RequestBody List<Long> ids,
+                                         Authentication authentication) {
+        requireOwnInbox(studentId, authentication);
+        return Map.of("updated", notificationService.markRead(studentId, ids));
+    }
+
+    @PostMapping("/student/{studentId}/read-all")
+    public Map<String, Integer> markAllRead(@PathVariable Long studentId, Authentication authentication) {
+        requireOwnInbox(studentId, authentication);
+        return Map.of("updated", notificationService.markAllRead(studentId));
+    }
+
+    // A student only sees and updates their own inbox
+    private void requireOwnInbox(Long studentId, Authentication authentication) {
+        Long own = studentRepository.findIdByEmail(authentication.getName()).orElse(null);
+        if (!studentId.equals(own)) {
+            throw new AccessDeniedException("Not your notifications");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.dto.JobDTO;
+import com.example.dto.JobImportReportDTO;
+import com.example.dto.JobPageDTO;
+import com.example.importing.JobFeedReader.Format;
+import com.example.service.JobImportService;
+import com.example.service.JobService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+// Recruiters manage their own postings; admins may change any
+@RestController
+@RequestMapping("/api/recruiter/jobs")
+@CrossOrigin(origins = "http://localhost:5173")
+@RequiredArgsConstructor
+public class RecruiterJobController {
+
+    private static final String CSV = "text/csv";
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final JobService jobService;
+    private final JobImportService jobImportService;
+
+    // GET: The caller's postings, newest first; pass the returned nextCursor for the next page
+    @GetMapping
+    public JobPageDTO getMyJobs(@RequestParam(required = false) String cursor,
+                                @RequestParam(defaultValue = "20") int size,
+                                Authentication authentication) {
+        return jobService.getJobsPostedBy(authentication.getName(), cursor, size);
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JobDTO> createJob(@RequestBody JobDTO job, Authentication authentication) {
+        return new ResponseEntity<>(jobService.createJob(job, authentication.getName()), HttpStatus.CREATED);
+    }
+
+    @PutMapping("/{id}")
+    public JobDTO updateJob(@PathVariable Long id, @RequestBody JobDTO job, Authentication authentication) {
+        return jobService.updateJob(id, job, authentication.getName(), isAdmin(authentication));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteJob(@PathVariable Long id, Authentication authentication) {
+        jobService.deleteJob(id, authentication.getName(), isAdmin(authentication));
+        return ResponseEntity.noContent().build();
+    }
+
+    // POST: Bulk import from the raw request body (text/csv with a header row, or application/x-ndjson),
+    // read as it arrives. Answers with per-row errors; notify=true also alerts matching students.
+    @PostMapping(path = "/import", consumes = {CSV, NDJSON})
+    public JobImportReportDTO importJobs(@RequestParam(defaultValue = "false") boolean notify,
+                                         HttpServletRequest request,
+                                         Authentication authentication) throws IOException {
+        Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(CSV))
+                ? Format.CSV : Format.NDJSON;
+        return jobImportService.importJobs(request.getInputStream(), format, authentication.getName(), notify);
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+}
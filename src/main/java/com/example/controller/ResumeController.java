@@ -0,0 +1,89 @@
+package com.example.controller;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.dto.ResumeDTO;
+import com.example.dto.ResumeSearchResultDTO;
+import com.example.entity.Resume;
+import com.example.entity.Student;
+import com.example.repo.StudentRepository;
+import com.example.service.ResumeService;
+import com.example.storage.RangeDownload;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/resumes")
+@CrossOrigin(origins = "http://localhost:3000") // allow React to access backend
+public class ResumeController {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    // Upload a resume for the logged-in student
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResumeDTO> upload(@RequestParam("file") MultipartFile file, Authentication authentication)
+            throws IOException {
+        Student student = studentRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new EntityNotFoundException("No student profile for " + authentication.getName()));
+        return new ResponseEntity<>(resumeService.upload(student.getId(), file), HttpStatus.CREATED);
+    }
+
+    // Full-text search over extracted resume text; recruiters and admins only (SecurityConfig)
+    @GetMapping("/search")
+    public ResumeSearchResultDTO search(@RequestParam String q,
+                                        @RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(defaultValue = "20") int size) {
+        return resumeService.search(q, page, size);
+    }
+
+    @GetMapping("/student/{studentId}")
+    public List<ResumeDTO> getResumesByStudent(@PathVariable Long studentId, Authentication authentication) {
+        requireOwnerOrRecruiter(studentId, authentication);
+        return resumeService.getResumesByStudentId(studentId);
+    }
+
+    // Streams the file; supports Range and If-None-Match so re-downloads are cheap
+    @GetMapping("/{id}/file")
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response,
+                         Authentication authentication) throws IOException {
+        Resume resume = resumeService.getResume(id);
+        requireOwnerOrRecruiter(resume.getStudentId(), authentication);
+        RangeDownload.send(resumeService.pathOf(resume), "\"" + resume.getSha256() + "\"", resume.getFileType(),
+                resume.getFileName(), request, response);
+    }
+
+    // A student only reaches their own resumes; recruiters and admins reach any
+    private void requireOwnerOrRecruiter(Long studentId, Authentication authentication) {
+        boolean recruiter = authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_RECRUITER".equals(a.getAuthority()) || "ROLE_ADMIN".equals(a.getAuthority()));
+        if (recruiter) {
+            return;
+        }
+        Long own = studentRepository.findIdByEmail(authentication.getName()).orElse(null);
+        if (own == null || !own.equals(studentId)) {
+            throw new AccessDeniedException("Not your resume");
+        }
+    }
+}
@@ -1,22 +1,27 @@
 package com.example.controller;
 
-import java.util.Optional;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.dto.StudentDTO;
 import com.example.entity.Student;
 import com.example.repo.StudentRepository;
+import com.example.service.ProfileCache.CachedProfile;
 import com.example.service.StudentService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,14 +34,16 @@ public class StudentController {
 
     private final StudentService studentService;
 
-    // GET: Fetch profile by ID
+    // GET: Fetch profile by ID, served as cached JSON. The ETag is the version;
+    // If-None-Match with it answers 304 without a body.
     @GetMapping("/{id}")
-    public ResponseEntity<Student> getProfile(@PathVariable Long id) {
-        Student student = studentService.getStudentById(id);
-        if (student == null) {
-            return ResponseEntity.notFound().build();
+    public ResponseEntity<byte[]> getProfile(@PathVariable Long id, WebRequest request) {
+        CachedProfile profile = studentService.getCachedProfile(id);
+        String etag = "\"" + profile.version() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
         }
-        return ResponseEntity.ok(student);
+        return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(profile.json());
     }
 
     // POST: Create new profile
@@ -46,20 +53,44 @@ public class StudentController {
         return new ResponseEntity<>(savedStudent, HttpStatus.CREATED);
     }
 
-    // PUT: Update existing profile
+    // PUT: Update existing profile. Send If-Match: "<version>" to reject edits of a stale copy (409).
     @PutMapping("/{id}")
-    public ResponseEntity<Student> updateProfile(@PathVariable Long id, @RequestBody Student updatedStudent) {
-        Student student = studentService.updateStudentProfile(id, updatedStudent);
+    public ResponseEntity<Student> updateProfile(@PathVariable Long id, @RequestBody Student updatedStudent,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Student student = studentService.updateStudentProfile(id, updatedStudent, parseVersion(ifMatch));
         if (student == null) {
             return ResponseEntity.notFound().build();
         }
         return ResponseEntity.ok(student);
     }
 
+    // PATCH: Update only the fields present; a present child list is the full new list, matched by id
+    @PatchMapping("/{id}")
+    public ResponseEntity<Student> patchProfile(@PathVariable Long id, @RequestBody StudentDTO patch,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(studentService.patchStudentProfile(id, patch, parseVersion(ifMatch)));
+    }
+
     // DELETE: Delete profile by ID
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProfile(@PathVariable Long id) {
         studentService.deleteStudent(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // If-Match carries the version as an entity tag: "3" or W/"3"
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match: " + ifMatch);
+        }
+    }
+}
@@ -5,14 +5,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 import com.example.entity.Role;
 import com.example.repo.RoleRepository;
 
-@SpringBootApplication
-@ComponentScan(basePackages = "com.example")
+@SpringBootApplication(scanBasePackages = "com.example")
 @EntityScan(basePackages = "com.example")
 @EnableJpaRepositories(basePackages = "com.example")
 public class JobportalApplication {
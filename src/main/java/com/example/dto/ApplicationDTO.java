@@ -5,6 +5,7 @@ import java.time.LocalDate;
 
 public class ApplicationDTO {
 
+    private Long id;
     private String jobTitle;
     private String company;
     private String location;
@@ -25,8 +26,22 @@ public class ApplicationDTO {
         this.jobId = jobId;
     }
 
+    public ApplicationDTO(Long id, String jobTitle, String company, String location,
+                          LocalDate appliedDate, String status, Long jobId) {
+        this(jobTitle, company, location, appliedDate, status, jobId);
+        this.id = id;
+    }
+
     // --- Getters and Setters ---
 
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public String getJobTitle() {
         return jobTitle;
     }
@@ -0,0 +1,32 @@
+package com.example.dto;
+
+import java.util.List;
+
+public class ApplicationPageDTO {
+
+    private List<ApplicationDTO> items;
+    private String nextCursor; // null when there are no more pages
+
+    public ApplicationPageDTO() {}
+
+    public ApplicationPageDTO(List<ApplicationDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ApplicationDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ApplicationDTO> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.dto;
+
+public class ApplicationStatusEventDTO {
+
+    private Long applicationId;
+    private Long jobId;
+    private String previousStatus;
+    private String status;
+
+    public ApplicationStatusEventDTO() {}
+
+    public ApplicationStatusEventDTO(Long applicationId, Long jobId, String previousStatus, String status) {
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(String previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
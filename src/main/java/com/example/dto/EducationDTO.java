@@ -6,7 +6,7 @@ public class EducationDTO {
     private String degree;
     private int startYear;
     private int endYear;
-    private double gpa;
+    private Double gpa;
 
     // Getters and setters
     public Long getId() { return id; }
@@ -24,6 +24,6 @@ public class EducationDTO {
     public int getEndYear() { return endYear; }
     public void setEndYear(int endYear) { this.endYear = endYear; }
 
-    public double getGpa() { return gpa; }
-    public void setGpa(double gpa) { this.gpa = gpa; }
+    public Double getGpa() { return gpa; }
+    public void setGpa(Double gpa) { this.gpa = gpa; }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.dto;
+
+import com.example.entity.Job;
+
+public class JobDTO {
+
+    private Long id;
+    private String title;
+    private String company;
+    private String location;
+    private String jobType;
+    private String description;
+    private String requirements;
+    private String postedBy; // set by the server
+
+    public JobDTO() {}
+
+    public JobDTO(Job job) {
+        this.id = job.getId();
+        this.title = job.getTitle();
+        this.company = job.getCompany();
+        this.location = job.getLocation();
+        this.jobType = job.getJobType();
+        this.description = job.getDescription();
+        this.requirements = job.getRequirements();
+        this.postedBy = job.getPostedBy();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(String jobType) {
+        this.jobType = jobType;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getRequirements() {
+        return requirements;
+    }
+
+    public void setRequirements(String requirements) {
+        this.requirements = requirements;
+    }
+
+    public String getPostedBy() {
+        return postedBy;
+    }
+
+    public void setPostedBy(String postedBy) {
+        this.postedBy = postedBy;
+    }
+}
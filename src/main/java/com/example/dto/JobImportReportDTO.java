@@ -0,0 +1,61 @@
+package com.example.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk job import. Rows are numbered from 1 in the order they
+ * appear in the feed (the CSV header is not a row). Only the first errors
+ * up to the configured limit are listed; {@code failed} counts them all.
+ */
+public class JobImportReportDTO {
+
+    private long received;
+    private long imported;
+    private long failed;
+    private long elapsedMs;
+    private List<RowError> errors = new ArrayList<>();
+
+    public record RowError(long row, String message) {
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public void setReceived(long received) {
+        this.received = received;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.dto;
+
+public class JobMatchDTO {
+
+    private Long jobId;
+    private String title;
+    private String company;
+    private String location;
+    private float score;
+
+    public JobMatchDTO() {}
+
+    public JobMatchDTO(Long jobId, String title, String company, String location, float score) {
+        this.jobId = jobId;
+        this.title = title;
+        this.company = company;
+        this.location = location;
+        this.score = score;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.dto;
+
+import java.util.List;
+
+public class JobPageDTO {
+
+    private List<JobDTO> items;
+    private String nextCursor; // null when there are no more pages
+
+    public JobPageDTO() {}
+
+    public JobPageDTO(List<JobDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<JobDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobDTO> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.dto;
+
+public class JobSearchHitDTO {
+
+    private Long jobId;
+    private String title;
+    private String company;
+    private String location;
+    private String jobType;
+    private float score;
+
+    public JobSearchHitDTO() {}
+
+    public JobSearchHitDTO(Long jobId, String title, String company, String location, String jobType, float score) {
+        this.jobId = jobId;
+        this.title = title;
+        this.company = company;
+        this.location = location;
+        this.jobType = jobType;
+        this.score = score;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(String jobType) {
+        this.jobType = jobType;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class JobSearchResultDTO {
+
+    private long total;
+    private List<JobSearchHitDTO> hits;
+    private Map<String, Map<String, Integer>> facets; // dimension -> value -> count
+
+    public JobSearchResultDTO() {}
+
+    public JobSearchResultDTO(long total, List<JobSearchHitDTO> hits, Map<String, Map<String, Integer>> facets) {
+        this.total = total;
+        this.hits = hits;
+        this.facets = facets;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<JobSearchHitDTO> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<JobSearchHitDTO> hits) {
+        this.hits = hits;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+}
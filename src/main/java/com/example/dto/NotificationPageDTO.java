@@ -0,0 +1,32 @@
+package com.example.dto;
+
+import java.util.List;
+
+public class NotificationPageDTO {
+
+    private List<NotificationDTO> items;
+    private String nextCursor; // null when there are no more pages
+
+    public NotificationPageDTO() {}
+
+    public NotificationPageDTO(List<NotificationDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<NotificationDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<NotificationDTO> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.entity.ExtractionStatus;
+
+public class ResumeDTO {
+
+    private Long id;
+    private String fileName;
+    private String fileType;
+    private long size;
+    private LocalDateTime uploadedAt;
+    private String sha256;
+    private ExtractionStatus extractionStatus;
+
+    public ResumeDTO() {}
+
+    public ResumeDTO(Long id, String fileName, String fileType, long size, LocalDateTime uploadedAt, String sha256,
+                     ExtractionStatus extractionStatus) {
+        this.id = id;
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.size = size;
+        this.uploadedAt = uploadedAt;
+        this.sha256 = sha256;
+        this.extractionStatus = extractionStatus;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+
+    public void setFileType(String fileType) {
+        this.fileType = fileType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+
+    public void setUploadedAt(LocalDateTime uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public ExtractionStatus getExtractionStatus() {
+        return extractionStatus;
+    }
+
+    public void setExtractionStatus(ExtractionStatus extractionStatus) {
+        this.extractionStatus = extractionStatus;
+    }
+}
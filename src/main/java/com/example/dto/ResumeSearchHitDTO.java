@@ -0,0 +1,50 @@
+package com.example.dto;
+
+public class ResumeSearchHitDTO {
+
+    private Long resumeId;
+    private Long studentId;
+    private String fileName;
+    private float score;
+
+    public ResumeSearchHitDTO() {}
+
+    public ResumeSearchHitDTO(Long resumeId, Long studentId, String fileName, float score) {
+        this.resumeId = resumeId;
+        this.studentId = studentId;
+        this.fileName = fileName;
+        this.score = score;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
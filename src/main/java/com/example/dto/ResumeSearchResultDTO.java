@@ -0,0 +1,32 @@
+package com.example.dto;
+
+import java.util.List;
+
+public class ResumeSearchResultDTO {
+
+    private long total;
+    private List<ResumeSearchHitDTO> hits;
+
+    public ResumeSearchResultDTO() {}
+
+    public ResumeSearchResultDTO(long total, List<ResumeSearchHitDTO> hits) {
+        this.total = total;
+        this.hits = hits;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<ResumeSearchHitDTO> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<ResumeSearchHitDTO> hits) {
+        this.hits = hits;
+    }
+}
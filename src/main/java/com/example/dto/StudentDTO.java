@@ -8,6 +8,8 @@ public class StudentDTO {
     private String email;
     private String phone;
     private String location;
+    private String avatar;
+    private Long version;
     
     private List<EducationDTO> education;
     private List<SkillDTO> skills;
@@ -44,6 +46,18 @@ public class StudentDTO {
     public void setLocation(String location) {
         this.location = location;
     }
+    public String getAvatar() {
+        return avatar;
+    }
+    public void setAvatar(String avatar) {
+        this.avatar = avatar;
+    }
+    public Long getVersion() {
+        return version;
+    }
+    public void setVersion(Long version) {
+        this.version = version;
+    }
     public List<EducationDTO> getEducation() {
         return education;
     }
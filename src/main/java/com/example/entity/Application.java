@@ -1,15 +1,30 @@
 package com.example.entity;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import java.time.LocalDate;
 
+import com.example.push.ApplicationStatusListener;
+
 @Entity
+@EntityListeners(ApplicationStatusListener.class)
+@Table(indexes = {
+		@Index(name = "idx_application_student_applied", columnList = "student_id, applied_date, id"),
+		@Index(name = "idx_application_job", columnList = "job_id")
+})
 public class Application {
 
 	@Id
@@ -17,12 +32,12 @@ public class Application {
 	private Long id;
 
 	// Relation: Many Applications belong to one Student
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "student_id", nullable = false)
 	private Student student;
 
 	// Relation: Many Applications belong to one Job
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "job_id", nullable = false)
 	private Job job;
 
@@ -30,6 +45,10 @@ public class Application {
 
 	private String status; // PENDING, IN_REVIEW, INTERVIEW, REJECTED
 
+	// Status as last read from or written to the database, to detect transitions
+	@Transient
+	private String persistedStatus;
+
 	// --- Constructors ---
 	public Application() {
 	}
@@ -81,4 +100,16 @@ public class Application {
 	public void setStatus(String status) {
 		this.status = status;
 	}
+
+	public String getPersistedStatus() {
+		return persistedStatus;
+	}
+
+	// Runs after the entity listeners, so they still see the previous value on update
+	@PostLoad
+	@PostPersist
+	@PostUpdate
+	void rememberPersistedStatus() {
+		persistedStatus = status;
+	}
 }
@@ -0,0 +1,9 @@
+package com.example.entity;
+
+// Lifecycle of background text extraction for an uploaded resume
+public enum ExtractionStatus {
+    PENDING,     // waiting for a worker, possibly after a failed attempt
+    PROCESSING,  // claimed by a worker
+    DONE,
+    FAILED       // unsupported format or out of attempts
+}
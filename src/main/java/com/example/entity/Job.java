@@ -2,14 +2,29 @@ package com.example.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import com.example.matching.JobSkillListener;
+import com.example.search.JobIndexListener;
 
 @Entity
+@EntityListeners({ JobIndexListener.class, JobSkillListener.class })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "job")
+@Table(indexes = @Index(name = "idx_job_posted_by", columnList = "posted_by, id"))
 public class Job {
 
 	@Id
@@ -20,9 +35,15 @@ public class Job {
 	private String company;
 	private String location;
 	private String jobType; // e.g., Full-Time, Part-Time, Internship
+	@Column(length = 4000)
 	private String description;
+	@Column(length = 2000)
 	private String requirements;
 
+	// Email of the recruiter who posted it; null for jobs from before recruiter accounts
+	@Column(name = "posted_by")
+	private String postedBy;
+
 	// Optional: one job can have many applications
 	@OneToMany(mappedBy = "job", cascade = CascadeType.ALL)
 	private List<Application> applications;
@@ -97,6 +118,14 @@ public class Job {
 		this.requirements = requirements;
 	}
 
+	public String getPostedBy() {
+		return postedBy;
+	}
+
+	public void setPostedBy(String postedBy) {
+		this.postedBy = postedBy;
+	}
+
 	public List<Application> getApplications() {
 		return applications;
 	}
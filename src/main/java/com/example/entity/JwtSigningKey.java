@@ -0,0 +1,56 @@
+package com.example.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One ES256 key pair of the JWT signing key ring, shared by every instance
+ * through the database. The newest key signs; older ones stay published for
+ * verification until the last token they signed has expired.
+ */
+@Entity
+@Table(name = "jwt_signing_keys")
+public class JwtSigningKey {
+
+    // The "kid" header of the tokens it signs
+    @Id
+    @Column(length = 32)
+    private String kid;
+
+    // X.509 SubjectPublicKeyInfo
+    @Column(name = "public_key", nullable = false, length = 512)
+    private byte[] publicKey;
+
+    // PKCS#8; the database is as trusted as the hard-coded HMAC secret this replaces
+    @Column(name = "private_key", nullable = false, length = 512)
+    private byte[] privateKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public JwtSigningKey() {
+    }
+
+    public JwtSigningKey(String kid, byte[] publicKey, byte[] privateKey, LocalDateTime createdAt) {
+        this.kid = kid;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+        this.createdAt = createdAt;
+    }
+
+    public String getKid() {
+        return kid;
+    }
+
+    public byte[] getPublicKey() {
+        return publicKey;
+    }
+
+    public byte[] getPrivateKey() {
+        return privateKey;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -6,12 +6,23 @@ import java.time.LocalDateTime;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+import com.example.service.NotificationListener;
+
 @Entity
-@Table(name = "notifications")
+@EntityListeners(NotificationListener.class)
+@Table(name = "notifications", indexes = {
+        // Unread badge seeding and the unread-only inbox
+        @Index(name = "idx_notification_student_read_created", columnList = "student_id, is_read, created_at"),
+        // Keyset pages of the full inbox
+        @Index(name = "idx_notification_student_created", columnList = "student_id, created_at, id")
+})
 public class Notification {
 
+    // Pooled sequence (a table on MySQL) rather than IDENTITY, so that Hibernate
+    // can batch inserts when notifications are fanned out to many students
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "student_id", nullable = false)
@@ -8,7 +8,12 @@ import java.util.List;
 
 
 @Entity
-@Table(name = "resumes")
+@Table(name = "resumes", indexes = {
+        @Index(name = "idx_resume_student_uploaded", columnList = "student_id, uploaded_at"),
+        @Index(name = "idx_resume_sha256", columnList = "sha256"),
+        @Index(name = "idx_resume_extraction_due", columnList = "extraction_status, next_attempt_at"),
+        @Index(name = "idx_resume_extracted", columnList = "extraction_status, last_attempt_at")
+})
 public class Resume {
 
     @Id
@@ -27,13 +32,37 @@ public class Resume {
     @Column(nullable = false)
     private LocalDateTime uploadedAt;
 
+    // Location inside the resume store, derived from sha256
     @Column(nullable = false)
     private String filePath;
 
-    // If you want to link Resume to a Student, you can add this:
-    // @ManyToOne(fetch = FetchType.LAZY)
-    // @JoinColumn(name = "student_id")
-    // private Student student;
+    @Column(name = "student_id")
+    private Long studentId;
+
+    // Content hash; identical uploads share one stored file
+    @Column(length = 64)
+    private String sha256;
+
+    // Text extraction state, driven by the background pipeline
+    @Enumerated(EnumType.STRING)
+    @Column(name = "extraction_status", length = 16)
+    private ExtractionStatus extractionStatus;
+
+    @Column(name = "extraction_attempts", nullable = false)
+    private int extractionAttempts;
+
+    @Column(name = "last_attempt_at")
+    private LocalDateTime lastAttemptAt;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "extraction_error", length = 500)
+    private String extractionError;
+
+    // Comma-separated skill terms found in the text
+    @Column(name = "extracted_skills", length = 2000)
+    private String extractedSkills;
 
     public Resume() {
     }
@@ -94,5 +123,49 @@ public class Resume {
         this.filePath = filePath;
     }
 
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public ExtractionStatus getExtractionStatus() {
+        return extractionStatus;
+    }
+
+    public void setExtractionStatus(ExtractionStatus extractionStatus) {
+        this.extractionStatus = extractionStatus;
+    }
+
+    public int getExtractionAttempts() {
+        return extractionAttempts;
+    }
+
+    public LocalDateTime getLastAttemptAt() {
+        return lastAttemptAt;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getExtractionError() {
+        return extractionError;
+    }
+
+    public String getExtractedSkills() {
+        return extractedSkills;
+    }
+
     // Optional: toString, equals, hashCode methods if needed
 }
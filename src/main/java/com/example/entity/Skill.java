@@ -3,14 +3,18 @@ package com.example.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import com.example.matching.StudentSkillListener;
+
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(StudentSkillListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_skill_student", columnList = "student_id"))
 public class Skill {
 
     @Id
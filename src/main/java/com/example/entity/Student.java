@@ -11,6 +11,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_student_email", columnNames = "email"))
 public class Student {
 
 	@Id
@@ -23,6 +24,11 @@ public class Student {
     private String location;
     private String avatar;
 
+    // Optimistic lock; also the profile's ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Education> education = new ArrayList<>();
 
@@ -20,8 +20,14 @@ import jakarta.persistence.*;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.example.auth.UserChangeListener;
+
 @Entity
 @Table(name = "users")
+@EntityListeners(UserChangeListener.class)
 public class User {
 
 	@Id
@@ -36,7 +42,9 @@ public class User {
 
 	private String password;
 
+	// Caches the role ids per user; the roles themselves come from the "role" region
 	@ManyToMany(fetch = FetchType.EAGER)
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "user-roles")
 	@JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
 	private Set<Role> roles = new HashSet<>();
 
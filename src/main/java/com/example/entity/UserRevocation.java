@@ -0,0 +1,46 @@
+package com.example.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A change to the user (roles, password, removal) that invalidated everything
+ * issued to them. Written alongside revoking their refresh tokens, so the
+ * other instances' revocation poll sees the change even when the user had no
+ * session left to revoke. Rows are purged once no access token can predate them.
+ */
+@Entity
+@Table(name = "user_revocations", indexes = @Index(name = "idx_user_revocation_revoked", columnList = "revoked_at"))
+public class UserRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Not a foreign key: the row must outlive a removed user
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    public UserRevocation() {
+    }
+
+    public UserRevocation(String username, LocalDateTime revokedAt) {
+        this.username = username;
+        this.revokedAt = revokedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+}
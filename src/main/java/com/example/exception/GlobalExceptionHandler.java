@@ -1,14 +1,20 @@
 package com.example.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import jakarta.persistence.EntityNotFoundException;
 
-
-import jakarta.persistence.EntityNotFoundException;
+import com.example.auth.PasswordHashingExecutor.HashingSaturatedException;
+import com.example.auth.RefreshTokenService.InvalidRefreshTokenException;
+import com.example.importing.JobFeedReader.InvalidFeedException;
+import com.example.service.JobService.NotJobOwnerException;
 
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
@@ -31,6 +37,49 @@ public class GlobalExceptionHandler {
         return buildErrorResponse("Entity Not Found", ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    // Handle concurrent edits (stale If-Match / @Version check)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return buildErrorResponse("Conflict", "The resource was modified by someone else; reload and retry",
+                HttpStatus.CONFLICT);
+    }
+
+    // Handle refresh tokens that are unknown, expired, revoked or reused
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Object> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        return buildErrorResponse("Unauthorized", ex.getMessage(), HttpStatus.UNAUTHORIZED);
+    }
+
+    // Handle access to another user's data, refused by the controller
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Object> handleAccessDenied(AccessDeniedException ex) {
+        return buildErrorResponse("Forbidden", ex.getMessage(), HttpStatus.FORBIDDEN);
+    }
+
+    // Handle changes to another recruiter's job posting
+    @ExceptionHandler(NotJobOwnerException.class)
+    public ResponseEntity<Object> handleNotJobOwner(NotJobOwnerException ex) {
+        return buildErrorResponse("Forbidden", ex.getMessage(), HttpStatus.FORBIDDEN);
+    }
+
+    // Handle an import feed that cannot be read at all (individual bad rows are reported, not thrown)
+    @ExceptionHandler(InvalidFeedException.class)
+    public ResponseEntity<Object> handleInvalidFeed(InvalidFeedException ex) {
+        return buildErrorResponse("Invalid Feed", ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    // Handle a saturated password hashing pool (login/registration storms), and
+    // queued async work that outlived the request timeout
+    @ExceptionHandler({HashingSaturatedException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<Object> handleOverload(RuntimeException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("error", "Service Unavailable");
+        body.put("message", ex instanceof HashingSaturatedException ? ex.getMessage() : "Request timed out; please retry");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(body);
+    }
+
     // Handle bad arguments (e.g. validation failures)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handleValidationException(MethodArgumentNotValidException ex) {
@@ -0,0 +1,374 @@
+package com.example.extraction;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.example.entity.ExtractionStatus;
+import com.example.entity.Resume;
+import com.example.extraction.TextExtractor.UnsupportedDocumentException;
+import com.example.matching.SkillVocabulary;
+import com.example.matching.StudentSkillIndex;
+import com.example.repo.ResumeRepository;
+import com.example.repo.ResumeRepository.StudentResumeSkills;
+import com.example.search.ResumeSearchIndex;
+import com.example.storage.ResumeStore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Background text extraction for uploaded resumes: parse (PDF/DOCX),
+ * normalize, pick out known skill terms for {@link StudentSkillIndex}, and
+ * index the text in {@link ResumeSearchIndex}.
+ *
+ * The upload only records the row as PENDING and offers it to a bounded
+ * queue; it never waits for parsing. Workers are capped at the number of
+ * cores. Progress is persisted on the row, so a resume that could not be
+ * queued, failed, or was abandoned by a crash is picked up again by a
+ * periodic sweep, with exponential backoff up to a maximum number of attempts.
+ *
+ * The search index is local to each instance, while the rows are shared, so
+ * the sweep also brings this instance's index up to date without touching row
+ * state: after startup it walks every extracted resume once (which also
+ * recovers index writes lost in a crash), and from then on the resumes
+ * extracted since its last check, by this instance or another. Missing ones
+ * are parsed again from the shared store and indexed here.
+ */
+@Component
+public class ResumeExtractionPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeExtractionPipeline.class);
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeStore resumeStore;
+    private final SkillVocabulary vocabulary;
+    private final StudentSkillIndex studentSkillIndex;
+    private final ResumeSearchIndex searchIndex;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService sweeper;
+    private final Duration sweepInterval;
+    private final Duration staleAfter;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final int maxChars;
+
+    private final Timer parseTimer;
+    private final Timer normalizeTimer;
+    private final Timer skillsTimer;
+    private final Timer indexTimer;
+    private final Counter extracted;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter reindexed;
+
+    // Index catch-up progress; only touched by the sweeper thread
+    private Long indexCheckedAfterId = 0L;
+    private boolean indexFullyChecked;
+    private LocalDateTime indexCheckedAt;
+
+    public ResumeExtractionPipeline(ResumeRepository resumeRepository,
+                                    ResumeStore resumeStore,
+                                    SkillVocabulary vocabulary,
+                                    StudentSkillIndex studentSkillIndex,
+                                    ResumeSearchIndex searchIndex,
+                                    MeterRegistry registry,
+                                    @Value("${resumes.extraction.threads:0}") int threads,
+                                    @Value("${resumes.extraction.queue-capacity:500}") int queueCapacity,
+                                    @Value("${resumes.extraction.sweep-interval:1m}") Duration sweepInterval,
+                                    @Value("${resumes.extraction.stale-after:10m}") Duration staleAfter,
+                                    @Value("${resumes.extraction.retry-backoff:1m}") Duration retryBackoff,
+                                    @Value("${resumes.extraction.max-attempts:5}") int maxAttempts,
+                                    @Value("${resumes.extraction.max-chars:200000}") int maxChars) {
+        this.resumeRepository = resumeRepository;
+        this.resumeStore = resumeStore;
+        this.vocabulary = vocabulary;
+        this.studentSkillIndex = studentSkillIndex;
+        this.searchIndex = searchIndex;
+        this.sweepInterval = sweepInterval;
+        this.staleAfter = staleAfter;
+        this.retryBackoff = retryBackoff;
+        this.maxAttempts = maxAttempts;
+        this.maxChars = maxChars;
+
+        // Parsing is CPU bound: never more workers than cores (0 means half of them)
+        int cores = Runtime.getRuntime().availableProcessors();
+        int workers = threads > 0 ? Math.min(threads, cores) : Math.max(1, cores / 2);
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("resume-extract-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("resume-sweep-"));
+
+        this.parseTimer = stageTimer(registry, "parse");
+        this.normalizeTimer = stageTimer(registry, "normalize");
+        this.skillsTimer = stageTimer(registry, "skills");
+        this.indexTimer = stageTimer(registry, "index");
+        this.extracted = outcomeCounter(registry, "extracted");
+        this.retried = outcomeCounter(registry, "retried");
+        this.failed = outcomeCounter(registry, "failed");
+        this.reindexed = outcomeCounter(registry, "reindexed");
+        Gauge.builder("resumes.extraction.queued", executor, pool -> pool.getQueue().size()).register(registry);
+        Gauge.builder("resumes.extraction.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    private static Timer stageTimer(MeterRegistry registry, String stage) {
+        return Timer.builder("resumes.extraction.stage").tag("stage", stage).register(registry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("resumes.extraction.outcome").tag("outcome", outcome).register(registry);
+    }
+
+    /**
+     * Offers a committed PENDING resume to the workers without blocking. When
+     * the queue is full the row simply stays PENDING for the next sweep.
+     */
+    public void submit(Long resumeId) {
+        try {
+            executor.execute(() -> process(resumeId));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Extraction queue full; resume {} left for the sweeper", resumeId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loadResumeSkills();
+        sweeper.scheduleWithFixedDelay(this::sweepQuietly, 0, sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void sweep() {
+        int room = executor.getQueue().remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : resumeRepository.findDueForExtraction(now, now.minus(staleAfter), Limit.of(room))) {
+            submit(id);
+        }
+        catchUpIndex(now);
+    }
+
+    // Queues extracted resumes this instance's index lacks; stops when the queue is full and resumes next sweep
+    private void catchUpIndex(LocalDateTime now) {
+        if (!indexFullyChecked) {
+            if (indexCheckedAt == null) {
+                indexCheckedAt = now;
+            }
+            List<Long> ids = resumeRepository.findExtractedIdsAfter(indexCheckedAfterId, Limit.of(LOAD_PAGE_SIZE));
+            for (Long id : ids) {
+                if (!offerReindex(id)) {
+                    return;
+                }
+                indexCheckedAfterId = id;
+            }
+            indexFullyChecked = ids.size() < LOAD_PAGE_SIZE;
+            return;
+        }
+        // An extraction finishes within stale-after of its claim, so that much overlap covers it
+        for (Long id : resumeRepository.findExtractedSince(indexCheckedAt.minus(staleAfter))) {
+            if (!offerReindex(id)) {
+                return;
+            }
+        }
+        indexCheckedAt = now;
+    }
+
+    private boolean offerReindex(Long resumeId) {
+        if (searchIndex.contains(resumeId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> reindex(resumeId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // Indexes an already extracted resume here; the row is left as it is
+    void reindex(Long resumeId) {
+        Resume resume = resumeRepository.findById(resumeId).orElse(null);
+        if (resume == null || resume.getExtractionStatus() != ExtractionStatus.DONE || searchIndex.contains(resumeId)) {
+            return;
+        }
+        try {
+            String raw = timed(parseTimer, () -> TextExtractor.extract(
+                    resumeStore.resolve(resume.getSha256()), resume.getFileType(), maxChars));
+            String text = timed(normalizeTimer, () -> TextExtractor.normalize(raw));
+            timed(indexTimer, () -> {
+                searchIndex.index(resume.getId(), resume.getStudentId(), resume.getFileName(), text);
+                return null;
+            });
+            if (resume.getStudentId() != null) {
+                refreshStudentSkills(resume.getStudentId());
+            }
+            reindexed.increment();
+        } catch (Exception e) {
+            logger.warn("Could not index extracted resume {}: {}", resumeId, e.getMessage());
+        }
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            logger.warn("Resume extraction sweep failed: {}", e.getMessage());
+        }
+    }
+
+    void process(Long resumeId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (resumeRepository.claimForExtraction(resumeId, now, now.minus(staleAfter)) == 0) {
+            return;  // Already done, or claimed by another worker
+        }
+        Resume resume = resumeRepository.findById(resumeId).orElse(null);
+        if (resume == null) {
+            return;
+        }
+        try {
+            String raw = timed(parseTimer, () -> TextExtractor.extract(
+                    resumeStore.resolve(resume.getSha256()), resume.getFileType(), maxChars));
+            String text = timed(normalizeTimer, () -> TextExtractor.normalize(raw));
+            List<String> skills = timed(skillsTimer, () -> vocabulary.knownTerms(text));
+            timed(indexTimer, () -> {
+                searchIndex.index(resume.getId(), resume.getStudentId(), resume.getFileName(), text);
+                return null;
+            });
+            resumeRepository.markExtracted(resumeId, joinWithinColumn(skills));
+            if (resume.getStudentId() != null) {
+                refreshStudentSkills(resume.getStudentId());
+            }
+            extracted.increment();
+        } catch (UnsupportedDocumentException | IllegalArgumentException e) {
+            fail(resumeId, e);
+        } catch (Exception e) {
+            // The claim already counted this attempt
+            int attempts = resume.getExtractionAttempts();
+            if (attempts >= maxAttempts) {
+                fail(resumeId, e);
+            } else {
+                LocalDateTime next = LocalDateTime.now().plus(retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 10)));
+                resumeRepository.markExtractionFailed(resumeId, ExtractionStatus.PENDING, message(e), next);
+                retried.increment();
+                logger.info("Resume {} extraction failed (attempt {}), retrying at {}: {}", resumeId, attempts, next,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private void fail(Long resumeId, Exception e) {
+        resumeRepository.markExtractionFailed(resumeId, ExtractionStatus.FAILED, message(e), null);
+        failed.increment();
+        logger.warn("Resume {} extraction failed permanently: {}", resumeId, e.getMessage());
+    }
+
+    // A student's resume skills are the union over all their extracted resumes
+    private void refreshStudentSkills(Long studentId) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String joined : resumeRepository.findExtractedSkillsByStudentId(studentId)) {
+            terms.addAll(split(joined));
+        }
+        studentSkillIndex.putResumeSkills(studentId, terms);
+    }
+
+    private void loadResumeSkills() {
+        Long current = null;
+        Set<String> terms = new LinkedHashSet<>();
+        Slice<StudentResumeSkills> slice = resumeRepository.findAllExtractedSkills(PageRequest.of(0, LOAD_PAGE_SIZE));
+        while (true) {
+            for (StudentResumeSkills row : slice) {
+                if (!row.getStudentId().equals(current)) {
+                    if (current != null) {
+                        studentSkillIndex.putResumeSkills(current, terms);
+                    }
+                    current = row.getStudentId();
+                    terms = new LinkedHashSet<>();
+                }
+                terms.addAll(split(row.getExtractedSkills()));
+            }
+            if (!slice.hasNext()) {
+                break;
+            }
+            slice = resumeRepository.findAllExtractedSkills(slice.nextPageable());
+        }
+        if (current != null) {
+            studentSkillIndex.putResumeSkills(current, terms);
+        }
+    }
+
+    private static List<String> split(String joined) {
+        return joined.isEmpty() ? List.of() : Arrays.asList(joined.split(","));
+    }
+
+    // Terms in order of appearance, dropping the tail if the column would overflow
+    private static String joinWithinColumn(List<String> skills) {
+        List<String> kept = new ArrayList<>();
+        int length = 0;
+        for (String skill : skills) {
+            if (skill.indexOf(',') >= 0 || length + skill.length() + 1 > 2000) {
+                continue;
+            }
+            kept.add(skill);
+            length += skill.length() + 1;
+        }
+        return String.join(",", kept);
+    }
+
+    private static String message(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private interface Stage<T> {
+        T run() throws IOException;
+    }
+
+    private static <T> T timed(Timer timer, Stage<T> stage) throws IOException {
+        Timer.Sample sample = Timer.start();
+        try {
+            return stage.run();
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        sweeper.shutdownNow();
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Claimed rows are picked up again after stale-after
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.extraction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+/**
+ * Plain text from PDF and DOCX resumes. Both readers stream from the file on
+ * disk and stop once {@code maxChars} characters have been collected, so a
+ * huge or hostile document costs bounded memory.
+ */
+final class TextExtractor {
+
+    static final String PDF = "application/pdf";
+    static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    // Resumes are short; anything past this is not worth parsing
+    private static final int MAX_PDF_PAGES = 20;
+
+    private static final Pattern CONTROL = Pattern.compile("[\\p{Cntrl}&&[^\\n\\t]]");
+    private static final Pattern SPACES = Pattern.compile("[ \\t\\u00A0]+");
+    private static final Pattern BLANK_LINES = Pattern.compile("\\n\\s*\\n+");
+
+    private TextExtractor() {
+    }
+
+    /**
+     * Thrown for documents that will never parse, so they are not retried.
+     */
+    static class UnsupportedDocumentException extends IOException {
+        UnsupportedDocumentException(String message) {
+            super(message);
+        }
+    }
+
+    static String extract(Path file, String fileType, int maxChars) throws IOException {
+        if (PDF.equals(fileType)) {
+            return pdf(file, maxChars);
+        }
+        if (DOCX.equals(fileType)) {
+            return docx(file, maxChars);
+        }
+        throw new UnsupportedDocumentException("No text extractor for " + fileType);
+    }
+
+    /**
+     * Unicode NFKC, no control characters, single spaces, no runs of blank lines.
+     */
+    static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).replace("\r\n", "\n").replace('\r', '\n');
+        normalized = CONTROL.matcher(normalized).replaceAll(" ");
+        normalized = SPACES.matcher(normalized).replaceAll(" ");
+        normalized = BLANK_LINES.matcher(normalized).replaceAll("\n");
+        return normalized.strip();
+    }
+
+    private static String pdf(Path file, int maxChars) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file.toFile())) {
+            if (document.isEncrypted()) {
+                throw new UnsupportedDocumentException("Encrypted PDF");
+            }
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setEndPage(MAX_PDF_PAGES);
+            String text = stripper.getText(document);
+            return text.length() > maxChars ? text.substring(0, maxChars) : text;
+        }
+    }
+
+    private static String docx(Path file, int maxChars) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry body = zip.getEntry("word/document.xml");
+            if (body == null) {
+                throw new UnsupportedDocumentException("Not a Word document");
+            }
+            try (InputStream in = zip.getInputStream(body)) {
+                return documentText(in, maxChars);
+            }
+        } catch (ZipException e) {
+            throw new UnsupportedDocumentException("Corrupt DOCX: " + e.getMessage());
+        }
+    }
+
+    // Text runs are <w:t>; paragraphs <w:p> and breaks become newlines
+    private static String documentText(InputStream in, int maxChars) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        StringBuilder text = new StringBuilder();
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            boolean inText = false;
+            while (reader.hasNext() && text.length() < maxChars) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (name.equals("t")) {
+                        inText = true;
+                    } else if (name.equals("tab")) {
+                        text.append('\t');
+                    } else if (name.equals("br") || name.equals("cr")) {
+                        text.append('\n');
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (name.equals("t")) {
+                        inText = false;
+                    } else if (name.equals("p")) {
+                        text.append('\n');
+                    }
+                } else if (inText && event == XMLStreamConstants.CHARACTERS) {
+                    text.append(reader.getText());
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new UnsupportedDocumentException("Malformed DOCX: " + e.getMessage());
+        }
+        return text.length() > maxChars ? text.substring(0, maxChars) : text.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.importing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.dto.JobDTO;
+
+/**
+ * RFC 4180 CSV: a header row naming the columns, comma separators, fields
+ * optionally quoted with {@code "}, quotes inside them doubled, and line
+ * breaks allowed inside quoted fields. Empty fields are null. Blank lines are
+ * skipped.
+ */
+class CsvJobFeedReader extends JobFeedReader {
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+
+    private String[] header;
+    private long number;
+
+    // State of the record being read
+    private int recordChars;
+    private String problem;
+
+    CsvJobFeedReader(InputStream in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    public Row next() throws IOException {
+        while (readRecord()) {
+            if (fields.size() == 1 && fields.get(0) == null) {
+                continue;
+            }
+            if (header == null) {
+                readHeader();
+                continue;
+            }
+            number++;
+            if (problem != null) {
+                return new Row(number, null, problem);
+            }
+            if (fields.size() != header.length) {
+                return new Row(number, null, "Expected " + header.length + " fields, found " + fields.size());
+            }
+            JobDTO job = new JobDTO();
+            for (int i = 0; i < header.length; i++) {
+                set(job, header[i], fields.get(i));
+            }
+            return new Row(number, job, null);
+        }
+        return null;
+    }
+
+    private void readHeader() {
+        header = new String[fields.size()];
+        for (int i = 0; i < header.length; i++) {
+            header[i] = fields.get(i) == null ? "" : key(fields.get(i).strip());
+        }
+        List<String> columns = List.of(header);
+        if (problem != null || !columns.contains("title") || !columns.contains("company")) {
+            throw new InvalidFeedException("The CSV header must name the columns, including title and company");
+        }
+    }
+
+    /**
+     * Reads the next record into {@link #fields}; false at the end of the feed.
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        recordChars = 0;
+        problem = null;
+
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    problem = "Unterminated quoted field";
+                    endField();
+                    return true;
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    append((char) c);
+                }
+            } else if (c == -1 || c == '\n') {
+                endField();
+                return true;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                endField();
+                return true;
+            } else if (c == ',') {
+                endField();
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else {
+                append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    private void append(char c) {
+        if (++recordChars > MAX_RECORD_CHARS) {
+            problem = "Row is longer than " + MAX_RECORD_CHARS + " characters";
+            return;
+        }
+        field.append(c);
+    }
+
+    private void endField() {
+        fields.add(field.isEmpty() ? null : field.toString());
+        field.setLength(0);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+import com.example.dto.JobDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * Reads job postings from a partner feed one row at a time, so memory stays
+ * flat however large the upload is. A row that cannot be read (bad quoting,
+ * malformed JSON, over-long record) comes back as an error for that row and
+ * reading continues with the next one.
+ *
+ * <p>Both formats use the same field names: {@code title}, {@code company},
+ * {@code location}, {@code jobType} (or {@code job_type}), {@code description}
+ * and {@code requirements}. Other fields are ignored.
+ */
+public abstract class JobFeedReader implements Closeable {
+
+    // Longest record kept in memory; anything longer is reported and skipped
+    static final int MAX_RECORD_CHARS = 16 * 1024;
+
+    private static final int BUFFER_CHARS = 64 * 1024;
+
+    private static final Set<String> FIELDS =
+            Set.of("title", "company", "location", "jobtype", "description", "requirements");
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    /**
+     * One feed row: either the posting or why it could not be read.
+     * {@code number} counts rows from 1 (the CSV header is not a row).
+     */
+    public record Row(long number, JobDTO job, String error) {
+    }
+
+    // Buffered here rather than by BufferedReader, whose read() takes a lock per character
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_CHARS];
+    private int position;
+    private int limit;
+
+    protected JobFeedReader(InputStream in) throws IOException {
+        this.reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        if (peek() == '\uFEFF') {
+            position++;
+        }
+    }
+
+    public static JobFeedReader open(InputStream in, Format format, JsonFactory jsonFactory) throws IOException {
+        return format == Format.CSV ? new CsvJobFeedReader(in) : new NdjsonJobFeedReader(in, jsonFactory);
+    }
+
+    /**
+     * The next row, or null at the end of the feed.
+     *
+     * @throws InvalidFeedException if the feed as a whole is unusable (a CSV
+     *                              header without the required columns)
+     */
+    public abstract Row next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * The next character, or -1 at the end of the feed.
+     */
+    protected int read() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    protected int peek() throws IOException {
+        while (position == limit) {
+            int read = reader.read(buffer);
+            if (read == -1) {
+                return -1;
+            }
+            position = 0;
+            limit = read;
+        }
+        return buffer[position];
+    }
+
+    static boolean isField(String field) {
+        return FIELDS.contains(key(field));
+    }
+
+    /**
+     * A field name as {@link #set} matches it: case and underscores do not matter.
+     */
+    static String key(String field) {
+        return field.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Sets the named field on the job; false for a name that is not a job field.
+     */
+    static boolean set(JobDTO job, String field, String value) {
+        switch (key(field)) {
+            case "title" -> job.setTitle(value);
+            case "company" -> job.setCompany(value);
+            case "location" -> job.setLocation(value);
+            case "jobtype" -> job.setJobType(value);
+            case "description" -> job.setDescription(value);
+            case "requirements" -> job.setRequirements(value);
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The feed cannot be imported at all.
+     */
+    public static class InvalidFeedException extends RuntimeException {
+
+        public InvalidFeedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.importing;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.example.dto.JobDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Newline-delimited JSON: one object per line. Each line gets its own
+ * streaming parser, so a malformed line fails alone; fields are read token by
+ * token straight into the posting, without building a tree. Blank lines are
+ * skipped.
+ */
+class NdjsonJobFeedReader extends JobFeedReader {
+
+    private final JsonFactory jsonFactory;
+    private final char[] line = new char[MAX_RECORD_CHARS];
+
+    private long number;
+
+    NdjsonJobFeedReader(InputStream in, JsonFactory jsonFactory) throws IOException {
+        super(in);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        while (true) {
+            int length = readLine();
+            if (length == -1) {
+                return null;
+            }
+            if (isBlank(length)) {
+                continue;
+            }
+            number++;
+            if (length > MAX_RECORD_CHARS) {
+                return new Row(number, null, "Row is longer than " + MAX_RECORD_CHARS + " characters");
+            }
+            try {
+                return new Row(number, parse(length), null);
+            } catch (JsonProcessingException e) {
+                return new Row(number, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private JobDTO parse(int length) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(line, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseFailure(parser, "Expected a JSON object");
+            }
+            JobDTO job = new JobDTO();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isScalarValue()) {
+                    set(job, name, value == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+                } else if (isField(name)) {
+                    throw new JsonParseFailure(parser, "Field " + name + " must be a string");
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new JsonParseFailure(parser, "Unexpected content after the object");
+            }
+            return job;
+        }
+    }
+
+    /**
+     * Reads up to the next line break into {@link #line}. Returns the line's
+     * length (more than the buffer if it did not fit), or -1 at the end of the feed.
+     */
+    private int readLine() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return -1;
+        }
+        int length = 0;
+        while (c != -1 && c != '\n') {
+            if (length < line.length) {
+                line[length] = (char) c;
+            }
+            length++;
+            c = read();
+        }
+        if (length > 0 && length <= line.length && line[length - 1] == '\r') {
+            length--;
+        }
+        return length;
+    }
+
+    private boolean isBlank(int length) {
+        for (int i = 0; i < Math.min(length, line.length); i++) {
+            if (!Character.isWhitespace(line[i])) {
+                return false;
+            }
+        }
+        return length <= line.length;
+    }
+
+    private static class JsonParseFailure extends JsonProcessingException {
+
+        JsonParseFailure(JsonParser parser, String message) {
+            super(message, parser.currentLocation());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.matching;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.entity.Notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Fans a newly posted job out to "job_match" notifications for every student
+ * whose skills cover enough of its requirements.
+ *
+ * Work runs on a small fixed pool behind a bounded queue. Postings arrive on
+ * request threads (after commit, or from a bulk import), so a full queue
+ * never makes them wait: the job's fan-out is dropped, counted and logged
+ * instead of piling up work or pushing back on the requests. Rows are written
+ * in chunked transactions, flushed as JDBC batches and cleared from the
+ * persistence context after each chunk.
+ */
+@Component
+public class JobMatchNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobMatchNotifier.class);
+
+    static final String TYPE = "job_match";
+
+    private final StudentSkillIndex studentSkillIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final double minCoverage;
+    private final Counter created;
+    private final Counter dropped;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JobMatchNotifier(StudentSkillIndex studentSkillIndex,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry registry,
+                            @Value("${notifications.job-match.threads:2}") int threads,
+                            @Value("${notifications.job-match.queue-capacity:1000}") int queueCapacity,
+                            @Value("${notifications.job-match.chunk-size:1000}") int chunkSize,
+                            @Value("${notifications.job-match.min-coverage:0.5}") double minCoverage) {
+        this.studentSkillIndex = studentSkillIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.minCoverage = minCoverage;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("job-match-"),
+                this::drop);
+        this.created = Counter.builder("notifications.job_match.created").register(registry);
+        this.dropped = Counter.builder("notifications.job_match.dropped").register(registry);
+        Gauge.builder("notifications.job_match.queued", executor, pool -> pool.getQueue().size()).register(registry);
+    }
+
+    /**
+     * Queues notification fan-out for a committed job. Never blocks: when the
+     * pipeline is saturated the job gets no notifications.
+     */
+    public void jobPosted(long jobId, String title, String company, int[] jobSkills) {
+        if (jobSkills.length == 0) {
+            return;
+        }
+        executor.execute(new FanOut(jobId, title, company, jobSkills));
+    }
+
+    // Rejection handler; runs on the posting thread, so it must not wait for space
+    private void drop(Runnable task, ThreadPoolExecutor pool) {
+        dropped.increment();
+        logger.warn("Job match notifications dropped for job {}: pipeline saturated", ((FanOut) task).jobId);
+    }
+
+    int fanOut(long jobId, String title, String company, int[] jobSkills) {
+        long[] students = studentSkillIndex.studentsMatching(jobSkills, minCoverage);
+        String message = "New job matching your skills: " + title + " at " + company;
+        for (int from = 0; from < students.length; from += chunkSize) {
+            int start = from;
+            int end = Math.min(students.length, from + chunkSize);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < end; i++) {
+                    entityManager.persist(new Notification(students[i], "New job match", message, TYPE));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            created.increment(end - start);
+        }
+        logger.debug("Job {} matched {} students", jobId, students.length);
+        return students.length;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Job match notifier stopped with {} jobs still queued", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    private final class FanOut implements Runnable {
+
+        private final long jobId;
+        private final String title;
+        private final String company;
+        private final int[] jobSkills;
+
+        FanOut(long jobId, String title, String company, int[] jobSkills) {
+            this.jobId = jobId;
+            this.title = title;
+            this.company = company;
+            this.jobSkills = jobSkills;
+        }
+
+        @Override
+        public void run() {
+            try {
+                fanOut(jobId, title, company, jobSkills);
+            } catch (RuntimeException e) {
+                logger.error("Job match notifications failed for job {}", jobId, e);
+            }
+        }
+    }
+}
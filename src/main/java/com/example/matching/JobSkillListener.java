@@ -0,0 +1,81 @@
+package com.example.matching;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import static com.example.config.TransactionCallbacks.afterCommit;
+
+import com.example.entity.Job;
+import com.example.repo.JobRepository;
+import com.example.repo.JobRepository.JobRequirements;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Feeds job requirements into {@link SkillMatchingEngine}: all jobs once at
+ * startup, then every committed insert, update and delete. Newly posted jobs
+ * are also handed to {@link JobMatchNotifier}.
+ */
+@Component
+public class JobSkillListener {
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    @Autowired
+    private SkillMatchingEngine matchingEngine;
+
+    // Lazy: Hibernate creates this listener while the EntityManagerFactory that
+    // repositories need is still being built
+    @Lazy
+    @Autowired
+    private JobMatchNotifier jobMatchNotifier;
+
+    @Lazy
+    @Autowired
+    private JobRepository jobRepository;
+
+    @PostPersist
+    public void onJobPosted(Job job) {
+        Long jobId = job.getId();
+        String requirements = job.getRequirements();
+        String title = job.getTitle();
+        String company = job.getCompany();
+        afterCommit(() -> {
+            int[] skills = matchingEngine.putJob(jobId, requirements);
+            jobMatchNotifier.jobPosted(jobId, title, company, skills);
+        });
+    }
+
+    @PostUpdate
+    public void onJobUpdated(Job job) {
+        Long jobId = job.getId();
+        String requirements = job.getRequirements();
+        afterCommit(() -> matchingEngine.putJob(jobId, requirements));
+    }
+
+    @PostRemove
+    public void onJobRemoved(Job job) {
+        Long jobId = job.getId();
+        afterCommit(() -> matchingEngine.removeJob(jobId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        Slice<JobRequirements> slice = jobRepository.findAllRequirements(PageRequest.of(0, LOAD_PAGE_SIZE));
+        while (true) {
+            slice.forEach(job -> matchingEngine.putJob(job.getId(), job.getRequirements()));
+            if (!slice.hasNext()) {
+                break;
+            }
+            slice = jobRepository.findAllRequirements(slice.nextPageable());
+        }
+        matchingEngine.rebuild();
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable snapshot of every job's required skills in compressed sparse row
+ * form: the skills of job {@code j} are {@code skills[offsets[j] .. offsets[j+1])}.
+ * Scoring walks these primitive arrays against a student bitset without
+ * allocating per job.
+ */
+public final class JobSkillMatrix {
+
+    // Jobs scored per parallel task
+    static final int CHUNK_SIZE = 32_768;
+
+    private final long[] jobIds;
+    private final int[] offsets;
+    private final int[] skills;
+    private final float[] weights;   // per skill id, rarer skills weigh more
+    private final float[] invNorms;  // per job, 1 / sqrt(sum of its skill weights)
+    private final int vocabularySize;
+
+    private JobSkillMatrix(long[] jobIds, int[] offsets, int[] skills, float[] weights, float[] invNorms,
+                           int vocabularySize) {
+        this.jobIds = jobIds;
+        this.offsets = offsets;
+        this.skills = skills;
+        this.weights = weights;
+        this.invNorms = invNorms;
+        this.vocabularySize = vocabularySize;
+    }
+
+    public static JobSkillMatrix build(Map<Long, int[]> jobSkills, int vocabularySize) {
+        // The source map may be updated concurrently; work from one consistent copy
+        List<Map.Entry<Long, int[]>> entries = List.copyOf(jobSkills.entrySet());
+        int jobs = entries.size();
+        long[] jobIds = new long[jobs];
+        int[] offsets = new int[jobs + 1];
+        int postings = 0;
+        for (Map.Entry<Long, int[]> entry : entries) {
+            postings += entry.getValue().length;
+        }
+        int[] skills = new int[postings];
+        int[] documentFrequency = new int[vocabularySize];
+
+        int row = 0;
+        int position = 0;
+        for (Map.Entry<Long, int[]> entry : entries) {
+            jobIds[row] = entry.getKey();
+            offsets[row] = position;
+            for (int skill : entry.getValue()) {
+                if (skill < vocabularySize) {
+                    skills[position++] = skill;
+                    documentFrequency[skill]++;
+                }
+            }
+            row++;
+        }
+        offsets[jobs] = position;
+
+        float[] weights = new float[vocabularySize];
+        for (int skill = 0; skill < vocabularySize; skill++) {
+            weights[skill] = (float) Math.log(1.0 + (double) Math.max(jobs, 1) / Math.max(documentFrequency[skill], 1));
+        }
+
+        float[] invNorms = new float[jobs];
+        for (int j = 0; j < jobs; j++) {
+            float total = 0;
+            for (int p = offsets[j]; p < offsets[j + 1]; p++) {
+                total += weights[skills[p]];
+            }
+            invNorms[j] = total > 0 ? (float) (1.0 / Math.sqrt(total)) : 0f;
+        }
+        return new JobSkillMatrix(jobIds, offsets, skills, weights, invNorms, vocabularySize);
+    }
+
+    public int size() {
+        return jobIds.length;
+    }
+
+    public int vocabularySize() {
+        return vocabularySize;
+    }
+
+    /**
+     * Packs sorted skill ids into a bitset sized for this snapshot's vocabulary.
+     */
+    public long[] toBitset(int[] skillIds) {
+        long[] bits = new long[(vocabularySize + 63) >>> 6];
+        for (int skill : skillIds) {
+            if (skill < vocabularySize) {
+                bits[skill >>> 6] |= 1L << skill;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Top-K jobs by weighted overlap with the student's skills, normalized by
+     * each job's total weight so that broad postings do not win by volume.
+     */
+    public List<ScoredJob> topK(long[] studentBits, int k, boolean parallel) {
+        int jobs = size();
+        if (jobs == 0 || k <= 0) {
+            return List.of();
+        }
+        int chunks = (jobs + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream tasks = IntStream.range(0, chunks);
+        if (parallel) {
+            tasks = tasks.parallel();
+        }
+        TopK merged = tasks
+                .mapToObj(chunk -> score(studentBits, chunk * CHUNK_SIZE, Math.min(jobs, (chunk + 1) * CHUNK_SIZE), k))
+                .reduce(TopK::merge)
+                .orElseGet(() -> new TopK(k));
+
+        List<ScoredJob> result = new ArrayList<>(merged.size);
+        for (int slot : merged.slotsByDescendingScore()) {
+            result.add(new ScoredJob(jobIds[merged.rows[slot]], merged.scores[slot]));
+        }
+        return result;
+    }
+
+    private TopK score(long[] studentBits, int from, int to, int k) {
+        TopK top = new TopK(k);
+        final int[] offsets = this.offsets;
+        final int[] skills = this.skills;
+        final float[] weights = this.weights;
+        for (int j = from; j < to; j++) {
+            float matched = 0;
+            for (int p = offsets[j], end = offsets[j + 1]; p < end; p++) {
+                int skill = skills[p];
+                if ((studentBits[skill >>> 6] & (1L << skill)) != 0) {
+                    matched += weights[skill];
+                }
+            }
+            if (matched > 0) {
+                top.offer(j, matched * invNorms[j]);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Fixed-capacity min-heap of (row, score) on primitive arrays.
+     */
+    static final class TopK {
+
+        private final float[] scores;
+        private final int[] rows;
+        private int size;
+
+        TopK(int capacity) {
+            scores = new float[capacity];
+            rows = new int[capacity];
+        }
+
+        void offer(int row, float score) {
+            if (size < scores.length) {
+                scores[size] = score;
+                rows[size] = row;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                scores[0] = score;
+                rows[0] = row;
+                siftDown(0);
+            }
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.rows[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        // Heap slots ordered by descending score; only called once per query
+        List<Integer> slotsByDescendingScore() {
+            List<Integer> slots = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                slots.add(i);
+            }
+            slots.sort((a, b) -> Float.compare(scores[b], scores[a]));
+            return slots;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[i] >= scores[parent]) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+                if (scores[i] <= scores[smallest]) {
+                    break;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.matching;
+
+public record ScoredJob(long jobId, float score) {
+}
@@ -0,0 +1,103 @@
+package com.example.matching;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Ranks jobs for a set of student skills. Job requirements are kept as
+ * interned skill ids; queries run against an immutable {@link JobSkillMatrix}
+ * snapshot. After jobs change, a background thread rebuilds it (at most once
+ * per rebuild interval) and swaps it in, so neither writes nor queries ever
+ * wait for a rebuild; queries see changes within about one interval.
+ */
+@Component
+public class SkillMatchingEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillMatchingEngine.class);
+
+    private static final long REBUILD_INTERVAL_MS = 2_000;
+
+    private final SkillVocabulary vocabulary;
+
+    private final Map<Long, int[]> jobSkills = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService rebuilder;
+
+    private volatile JobSkillMatrix matrix = JobSkillMatrix.build(Map.of(), 0);
+    private volatile boolean dirty;
+
+    public SkillMatchingEngine(SkillVocabulary vocabulary) {
+        this.vocabulary = vocabulary;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("skill-matrix-"));
+    }
+
+    /**
+     * Adds or replaces a job and returns its interned skill ids.
+     */
+    public int[] putJob(long jobId, String requirements) {
+        int[] skills = vocabulary.intern(requirements);
+        jobSkills.put(jobId, skills);
+        dirty = true;
+        return skills;
+    }
+
+    public void removeJob(long jobId) {
+        if (jobSkills.remove(jobId) != null) {
+            dirty = true;
+        }
+    }
+
+    public List<ScoredJob> topJobs(Collection<String> studentSkills, int k) {
+        JobSkillMatrix snapshot = snapshot();
+        long[] bits = snapshot.toBitset(vocabulary.lookup(studentSkills));
+        return snapshot.topK(bits, k, true);
+    }
+
+    public JobSkillMatrix snapshot() {
+        return matrix;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuilder.scheduleWithFixedDelay(this::rebuildQuietly, REBUILD_INTERVAL_MS, REBUILD_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuilder.shutdownNow();
+    }
+
+    public synchronized void rebuild() {
+        if (!dirty) {
+            return;
+        }
+        // Clear the flag first so changes racing with the build mark it again
+        dirty = false;
+        matrix = JobSkillMatrix.build(jobSkills, vocabulary.size());
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Keep serving the last snapshot; the next run retries
+            dirty = true;
+            logger.warn("Skill matrix rebuild failed: {}", e.getMessage());
+        }
+    }
+}
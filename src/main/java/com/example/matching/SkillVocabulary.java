@@ -0,0 +1,162 @@
+package com.example.matching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Normalizes free-text skills ("Spring Boot, MySQL", "3+ years of Java")
+ * into canonical terms and interns each term to a dense int id, so that
+ * students and jobs can be encoded as primitive vectors.
+ */
+@Component
+public class SkillVocabulary {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;/|\\n\\r\\t•()]+|\\s+and\\s+|\\s+or\\s+|\\s*&\\s*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // Keep characters that carry meaning in skill names: c++, c#, node.js
+    private static final Pattern EDGE_PUNCTUATION = Pattern.compile("^[^a-z0-9+#]+|[^a-z0-9+#]+$");
+
+    // Phrases longer than this are sentences, not skill names; split them into words
+    private static final int MAX_PHRASE_WORDS = 3;
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("js", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("reactjs", "react"),
+            Map.entry("react.js", "react"),
+            Map.entry("nodejs", "node.js"),
+            Map.entry("node", "node.js"),
+            Map.entry("golang", "go"),
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("postgres", "postgresql"),
+            Map.entry("springboot", "spring boot"),
+            Map.entry("ml", "machine learning"));
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "an", "the", "of", "in", "on", "with", "for", "to", "at", "as", "is", "are", "be",
+            "years", "year", "experience", "knowledge", "good", "strong", "working", "plus", "skills");
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int size() {
+        return nextId.get();
+    }
+
+    /**
+     * Encodes text as sorted, distinct skill ids, adding unseen terms to the vocabulary.
+     */
+    public int[] intern(String text) {
+        List<String> terms = normalize(text);
+        int[] result = new int[terms.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.computeIfAbsent(terms.get(i), term -> nextId.getAndIncrement());
+        }
+        return sortedDistinct(result, result.length);
+    }
+
+    /**
+     * Encodes skills as sorted, distinct ids of already known terms. Unknown
+     * terms are dropped: no job can require a skill the vocabulary has never seen.
+     */
+    public int[] lookup(Collection<String> skills) {
+        List<String> terms = new ArrayList<>();
+        for (String skill : skills) {
+            terms.addAll(normalize(skill));
+        }
+        int[] result = new int[terms.size()];
+        int count = 0;
+        for (String term : terms) {
+            Integer id = ids.get(term);
+            if (id != null) {
+                result[count++] = id;
+            }
+        }
+        return sortedDistinct(result, count);
+    }
+
+    /**
+     * Distinct vocabulary terms found in free text such as a resume, in order
+     * of first appearance. Prose rarely splits cleanly into skill phrases, so
+     * each phrase is scanned for the longest known run of up to
+     * {@value #MAX_PHRASE_WORDS} words at each position.
+     */
+    public List<String> knownTerms(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null) {
+            return new ArrayList<>();
+        }
+        for (String phrase : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            String[] words = WHITESPACE.split(phrase.trim());
+            int i = 0;
+            while (i < words.length) {
+                int matched = 0;
+                for (int n = Math.min(MAX_PHRASE_WORDS, words.length - i); n >= 1 && matched == 0; n--) {
+                    String term = canonical(String.join(" ", Arrays.copyOfRange(words, i, i + n)));
+                    if (!term.isEmpty() && ids.containsKey(term)) {
+                        found.add(term);
+                        matched = n;
+                    }
+                }
+                i += Math.max(matched, 1);
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    static List<String> normalize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String phrase : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            String cleaned = canonical(phrase);
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            String[] words = cleaned.split(" ");
+            if (words.length <= MAX_PHRASE_WORDS) {
+                terms.add(cleaned);
+                continue;
+            }
+            for (String word : words) {
+                String term = canonical(word);
+                if (!term.isEmpty() && !STOPWORDS.contains(term) && !Character.isDigit(term.charAt(0))) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static String canonical(String raw) {
+        String term = EDGE_PUNCTUATION.matcher(WHITESPACE.matcher(raw.trim()).replaceAll(" ")).replaceAll("");
+        return ALIASES.getOrDefault(term, term);
+    }
+
+    private static int[] sortedDistinct(int[] values, int length) {
+        if (length == 0) {
+            return new int[0];
+        }
+        int[] sorted = Arrays.copyOf(values, length);
+        Arrays.sort(sorted);
+        int unique = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[unique - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+    }
+}
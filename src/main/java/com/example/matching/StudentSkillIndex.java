@@ -0,0 +1,135 @@
+package com.example.matching;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Inverted index from skill id to the students who have that skill, used to
+ * find the students a newly posted job is relevant to without scanning every
+ * student profile. A student's skills are the union of the profile's skill
+ * list and the skills extracted from their resumes.
+ */
+@Component
+public class StudentSkillIndex {
+
+    private static final int[] NO_SKILLS = new int[0];
+
+    private final SkillVocabulary vocabulary;
+
+    private final Map<Long, int[]> profileSkills = new ConcurrentHashMap<>();
+    private final Map<Long, int[]> resumeSkills = new ConcurrentHashMap<>();
+    private final Map<Long, int[]> skillsByStudent = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Long>> studentsBySkill = new ConcurrentHashMap<>();
+
+    public StudentSkillIndex(SkillVocabulary vocabulary) {
+        this.vocabulary = vocabulary;
+    }
+
+    public int size() {
+        return skillsByStudent.size();
+    }
+
+    /**
+     * Replaces a student's profile skills. Terms are interned so that jobs
+     * posted later can match skills no job has asked for yet.
+     */
+    public synchronized void putStudent(long studentId, Collection<String> skills) {
+        replace(profileSkills, studentId, skills);
+    }
+
+    /**
+     * Replaces the skills extracted from a student's resumes.
+     */
+    public synchronized void putResumeSkills(long studentId, Collection<String> skills) {
+        replace(resumeSkills, studentId, skills);
+    }
+
+    public synchronized void removeStudent(long studentId) {
+        profileSkills.remove(studentId);
+        resumeSkills.remove(studentId);
+        relink(studentId);
+    }
+
+    private void replace(Map<Long, int[]> source, long studentId, Collection<String> skills) {
+        int[] interned = vocabulary.intern(String.join(",", skills));
+        if (interned.length == 0) {
+            source.remove(studentId);
+        } else {
+            source.put(studentId, interned);
+        }
+        relink(studentId);
+    }
+
+    private void relink(long studentId) {
+        int[] updated = union(profileSkills.getOrDefault(studentId, NO_SKILLS),
+                resumeSkills.getOrDefault(studentId, NO_SKILLS));
+        int[] previous = updated.length == 0
+                ? skillsByStudent.remove(studentId)
+                : skillsByStudent.put(studentId, updated);
+        for (int skill : previous == null ? NO_SKILLS : previous) {
+            Set<Long> students = studentsBySkill.get(skill);
+            if (students != null) {
+                students.remove(studentId);
+            }
+        }
+        for (int skill : updated) {
+            studentsBySkill.computeIfAbsent(skill, key -> ConcurrentHashMap.newKeySet()).add(studentId);
+        }
+    }
+
+    // Both inputs are sorted and distinct
+    private static int[] union(int[] a, int[] b) {
+        if (b.length == 0) {
+            return a;
+        }
+        if (a.length == 0) {
+            return b;
+        }
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                merged[n++] = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                merged[n++] = b[j++];
+            } else {
+                merged[n++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(merged, n);
+    }
+
+    /**
+     * Students whose skills cover at least {@code minCoverage} of the job's
+     * required skills (and at least one of them).
+     */
+    public long[] studentsMatching(int[] jobSkills, double minCoverage) {
+        if (jobSkills.length == 0) {
+            return new long[0];
+        }
+        int required = Math.max(1, (int) Math.ceil(minCoverage * jobSkills.length));
+        Map<Long, Integer> matched = new HashMap<>();
+        for (int skill : jobSkills) {
+            Set<Long> students = studentsBySkill.get(skill);
+            if (students != null) {
+                for (Long student : students) {
+                    matched.merge(student, 1, Integer::sum);
+                }
+            }
+        }
+        return matched.entrySet().stream()
+                .filter(entry -> entry.getValue() >= required)
+                .mapToLong(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.matching;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import static com.example.config.TransactionCallbacks.accumulate;
+
+import com.example.entity.Skill;
+import com.example.repo.SkillRepository;
+import com.example.repo.SkillRepository.StudentSkillName;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Feeds student skills into {@link StudentSkillIndex}: all students once at
+ * startup, then each student whose skills changed in a committed transaction.
+ * A profile update rewrites every skill row, so changes are collected per
+ * transaction and each student is reloaded once.
+ */
+@Component
+public class StudentSkillListener {
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    @Autowired
+    private StudentSkillIndex studentSkillIndex;
+
+    // Lazy: Hibernate creates this listener while the EntityManagerFactory that
+    // repositories need is still being built
+    @Lazy
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onSkillChanged(Skill skill) {
+        if (skill.getStudent() == null) {
+            return;
+        }
+        Long studentId = skill.getStudent().getId();
+        accumulate(this, LinkedHashSet<Long>::new, pending -> pending.add(studentId),
+                pending -> pending.forEach(this::reload));
+    }
+
+    private void reload(Long studentId) {
+        studentSkillIndex.putStudent(studentId, skillRepository.findNamesByStudentId(studentId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        Long current = null;
+        List<String> names = new ArrayList<>();
+        Slice<StudentSkillName> slice = skillRepository.findAllStudentSkillNames(PageRequest.of(0, LOAD_PAGE_SIZE));
+        while (true) {
+            for (StudentSkillName row : slice) {
+                if (!row.getStudentId().equals(current)) {
+                    if (current != null) {
+                        studentSkillIndex.putStudent(current, names);
+                    }
+                    current = row.getStudentId();
+                    names = new ArrayList<>();
+                }
+                names.add(row.getName());
+            }
+            if (!slice.hasNext()) {
+                break;
+            }
+            slice = skillRepository.findAllStudentSkillNames(slice.nextPageable());
+        }
+        if (current != null) {
+            studentSkillIndex.putStudent(current, names);
+        }
+    }
+}
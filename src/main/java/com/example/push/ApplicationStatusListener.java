@@ -0,0 +1,39 @@
+package com.example.push;
+
+import static com.example.config.TransactionCallbacks.afterCommit;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.dto.ApplicationStatusEventDTO;
+import com.example.entity.Application;
+
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Pushes an "application-status" event to the applicant when a committed
+ * update moves {@link Application#getStatus()} to a new value.
+ */
+@Component
+public class ApplicationStatusListener {
+
+    public static final String EVENT = "application-status";
+
+    @Autowired
+    private StudentEventBus eventBus;
+
+    @PostUpdate
+    public void onApplicationUpdated(Application application) {
+        String previous = application.getPersistedStatus();
+        if (Objects.equals(previous, application.getStatus()) || application.getStudent() == null) {
+            return;
+        }
+        Long studentId = application.getStudent().getId();
+        ApplicationStatusEventDTO event = new ApplicationStatusEventDTO(application.getId(),
+                application.getJob() != null ? application.getJob().getId() : null,
+                previous, application.getStatus());
+        afterCommit(() -> eventBus.publish(studentId, EVENT, event));
+    }
+}
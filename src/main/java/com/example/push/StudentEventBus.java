@@ -0,0 +1,281 @@
+package com.example.push;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process fan-out of events to students connected over Server-Sent Events.
+ *
+ * Connections are servlet async requests, so an idle subscriber holds a
+ * socket and a small queue but no thread. Publishing only enqueues: each
+ * subscriber has a bounded queue drained by a small shared dispatcher pool,
+ * so one slow client never delays the publisher or other clients. Events
+ * that do not fit a full queue are dropped, and a subscriber that keeps
+ * falling behind is disconnected so the client can reconnect and refetch.
+ *
+ * <p>A send itself blocks while the client's socket buffer is full, holding a
+ * dispatcher thread. A send pending longer than {@code push.send-timeout}
+ * gets its subscriber dropped and a replacement thread added to the pool, so
+ * the other streams keep their dispatchers; the stuck thread is given back
+ * when the container's write timeout fails the send.
+ */
+@Component
+public class StudentEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentEventBus.class);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connected = new AtomicInteger();
+
+    private final Executor dispatcher;
+    private final ScheduledExecutorService heartbeat;
+    private final int queueCapacity;
+    private final int maxDrops;
+    private final int maxPerStudent;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+    private final Counter dropped;
+    private final Counter stalled;
+
+    @Autowired
+    public StudentEventBus(MeterRegistry registry,
+                           @Value("${push.dispatch-threads:4}") int dispatchThreads,
+                           @Value("${push.queue-capacity:64}") int queueCapacity,
+                           @Value("${push.max-drops:256}") int maxDrops,
+                           @Value("${push.max-connections-per-student:5}") int maxPerStudent,
+                           @Value("${push.timeout:30m}") Duration timeout,
+                           @Value("${push.send-timeout:5s}") Duration sendTimeout,
+                           @Value("${push.heartbeat:25s}") Duration heartbeatInterval) {
+        this(registry, Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("push-")),
+                queueCapacity, maxDrops, maxPerStudent, timeout, sendTimeout);
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        long checkMs = Math.max(100, sendTimeout.toMillis() / 2);
+        heartbeat.scheduleWithFixedDelay(this::dropStalledSends, checkMs, checkMs, TimeUnit.MILLISECONDS);
+    }
+
+    StudentEventBus(MeterRegistry registry, Executor dispatcher, int queueCapacity, int maxDrops, int maxPerStudent,
+                    Duration timeout, Duration sendTimeout) {
+        this.dispatcher = dispatcher;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("push-heartbeat-"));
+        this.queueCapacity = queueCapacity;
+        this.maxDrops = maxDrops;
+        this.maxPerStudent = maxPerStudent;
+        this.timeoutMs = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.dropped = Counter.builder("push.events.dropped").register(registry);
+        this.stalled = Counter.builder("push.sends.stalled").register(registry);
+        Gauge.builder("push.subscribers", connected, AtomicInteger::get).register(registry);
+    }
+
+    public SseEmitter subscribe(Long studentId) {
+        Subscriber subscriber = new Subscriber(studentId, newEmitter(timeoutMs), queueCapacity);
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        Set<Subscriber> forStudent = subscribers.computeIfAbsent(studentId, id -> ConcurrentHashMap.newKeySet());
+        forStudent.add(subscriber);
+        connected.incrementAndGet();
+        // Each tab opens its own stream; cap them so one account cannot hold unbounded queues
+        if (forStudent.size() > maxPerStudent) {
+            forStudent.stream().filter(other -> other != subscriber).findFirst().ifPresent(this::disconnect);
+        }
+        subscriber.offer(new StudentEvent("connected", Map.of("studentId", studentId)));
+        return emitter;
+    }
+
+    /**
+     * Queues an event for every open stream of the student. Never blocks.
+     */
+    public void publish(Long studentId, String name, Object data) {
+        Set<Subscriber> forStudent = subscribers.get(studentId);
+        if (forStudent == null) {
+            return;
+        }
+        StudentEvent event = new StudentEvent(name, data);
+        for (Subscriber subscriber : forStudent) {
+            subscriber.offer(event);
+        }
+    }
+
+    public int subscriberCount() {
+        return connected.get();
+    }
+
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Subscriber> forStudent : subscribers.values()) {
+            for (Subscriber subscriber : forStudent) {
+                subscriber.offer(StudentEvent.HEARTBEAT);
+            }
+        }
+    }
+
+    void dropStalledSends() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> forStudent : subscribers.values()) {
+            for (Subscriber subscriber : forStudent) {
+                long since = subscriber.sendingSince.get();
+                if (since != Subscriber.IDLE && since != Subscriber.STALLED && now - since > sendTimeoutNanos
+                        && subscriber.sendingSince.compareAndSet(since, Subscriber.STALLED)) {
+                    logger.info("Dropping event stream for student {}: send pending for {} ms", subscriber.studentId,
+                            TimeUnit.NANOSECONDS.toMillis(now - since));
+                    stalled.increment();
+                    remove(subscriber);
+                    resizeDispatcher(1);
+                }
+            }
+        }
+    }
+
+    // Stands in for dispatcher threads stuck in a send, so the other streams keep their share
+    private void resizeDispatcher(int delta) {
+        if (!(dispatcher instanceof ThreadPoolExecutor pool)) {
+            return;
+        }
+        synchronized (pool) {
+            if (delta > 0) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+            } else {
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connected.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.studentId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(this::disconnect));
+        if (dispatcher instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    record StudentEvent(String name, Object data) {
+        static final StudentEvent HEARTBEAT = new StudentEvent(null, null);
+    }
+
+    private final class Subscriber {
+
+        private final Long studentId;
+        private final SseEmitter emitter;
+        private final Queue<StudentEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicInteger drops = new AtomicInteger();
+        // System.nanoTime() when the current send started; whoever swaps it out first owns the outcome
+        private final AtomicLong sendingSince = new AtomicLong(IDLE);
+
+        private static final long IDLE = Long.MIN_VALUE;
+        private static final long STALLED = Long.MAX_VALUE;
+
+        Subscriber(Long studentId, SseEmitter emitter, int capacity) {
+            this.studentId = studentId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void offer(StudentEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                dropped.increment();
+                if (drops.incrementAndGet() > maxDrops) {
+                    logger.info("Disconnecting slow event stream for student {}", studentId);
+                    disconnect(this);
+                }
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        // At most one drain per subscriber runs at a time, so sends stay ordered
+        private void drain() {
+            boolean stalledHere = false;
+            try {
+                StudentEvent event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    sendingSince.set(System.nanoTime());
+                    try {
+                        if (event == StudentEvent.HEARTBEAT) {
+                            emitter.send(SseEmitter.event().comment("heartbeat"));
+                        } else {
+                            emitter.send(SseEmitter.event().name(event.name()).data(event.data()));
+                        }
+                    } finally {
+                        stalledHere = sendingSince.getAndSet(IDLE) == STALLED;
+                    }
+                }
+                if (stalledHere) {
+                    // The send went through after all, but the stream was already dropped
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container reports completion as well
+                remove(this);
+                return;
+            } finally {
+                scheduled.set(false);
+                if (stalledHere) {
+                    resizeDispatcher(-1);
+                }
+            }
+            if (!queue.isEmpty() && !closed.get() && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+    }
+}
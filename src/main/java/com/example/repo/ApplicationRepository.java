@@ -1,12 +1,51 @@
 package com.example.repo;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.dto.ApplicationDTO;
 import com.example.entity.Application;
 import com.example.entity.Student;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 	List<Application> findByStudentId(Long studentId); 
+
+	// Keyset pages over (appliedDate, id), served by idx_application_student_applied.
+	// A null cursor starts from the first page.
+	@Query("select new com.example.dto.ApplicationDTO(a.id, j.title, j.company, j.location, a.appliedDate, a.status, j.id) "
+			+ "from Application a join a.job j where a.student.id = :studentId "
+			+ "and (:status is null or a.status = :status) "
+			+ "and (:fromDate is null or a.appliedDate >= :fromDate) "
+			+ "and (:toDate is null or a.appliedDate <= :toDate) "
+			+ "and (:cursorDate is null or a.appliedDate < :cursorDate "
+			+ "     or (a.appliedDate = :cursorDate and a.id < :cursorId)) "
+			+ "order by a.appliedDate desc, a.id desc")
+	List<ApplicationDTO> findPageNewestFirst(@Param("studentId") Long studentId,
+			@Param("status") String status,
+			@Param("fromDate") LocalDate fromDate,
+			@Param("toDate") LocalDate toDate,
+			@Param("cursorDate") LocalDate cursorDate,
+			@Param("cursorId") Long cursorId,
+			Limit limit);
+
+	@Query("select new com.example.dto.ApplicationDTO(a.id, j.title, j.company, j.location, a.appliedDate, a.status, j.id) "
+			+ "from Application a join a.job j where a.student.id = :studentId "
+			+ "and (:status is null or a.status = :status) "
+			+ "and (:fromDate is null or a.appliedDate >= :fromDate) "
+			+ "and (:toDate is null or a.appliedDate <= :toDate) "
+			+ "and (:cursorDate is null or a.appliedDate > :cursorDate "
+			+ "     or (a.appliedDate = :cursorDate and a.id > :cursorId)) "
+			+ "order by a.appliedDate asc, a.id asc")
+	List<ApplicationDTO> findPageOldestFirst(@Param("studentId") Long studentId,
+			@Param("status") String status,
+			@Param("fromDate") LocalDate fromDate,
+			@Param("toDate") LocalDate toDate,
+			@Param("cursorDate") LocalDate cursorDate,
+			@Param("cursorId") Long cursorId,
+			Limit limit);
 }
@@ -0,0 +1,29 @@
+package com.example.repo;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.example.entity.Job;
+
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    // Only the columns the matching engine needs, without hydrating Job entities
+    @Query("select j.id as id, j.requirements as requirements from Job j order by j.id")
+    Slice<JobRequirements> findAllRequirements(Pageable pageable);
+
+    // A recruiter's postings newest first, keyset-paginated by id (idx_job_posted_by)
+    List<Job> findByPostedByOrderByIdDesc(String postedBy, Limit limit);
+
+    List<Job> findByPostedByAndIdLessThanOrderByIdDesc(String postedBy, Long id, Limit limit);
+
+    interface JobRequirements {
+        Long getId();
+
+        String getRequirements();
+    }
+}
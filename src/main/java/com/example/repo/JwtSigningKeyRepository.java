@@ -0,0 +1,12 @@
+package com.example.repo;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.entity.JwtSigningKey;
+
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    List<JwtSigningKey> findAllByOrderByCreatedAtAsc();
+}
@@ -0,0 +1,44 @@
+package com.example.repo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.dto.NotificationDTO;
+import com.example.entity.Notification;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+	// Keyset pages over (createdAt, id), newest first. A null cursor starts from the first page.
+	@Query("select new com.example.dto.NotificationDTO(n.id, n.title, n.message, n.type, n.createdAt, n.isRead) "
+			+ "from Notification n where n.studentId = :studentId "
+			+ "and (:unreadOnly = false or n.isRead = false) "
+			+ "and (:cursorCreatedAt is null or n.createdAt < :cursorCreatedAt "
+			+ "     or (n.createdAt = :cursorCreatedAt and n.id < :cursorId)) "
+			+ "order by n.createdAt desc, n.id desc")
+	List<NotificationDTO> findPage(@Param("studentId") Long studentId,
+			@Param("unreadOnly") boolean unreadOnly,
+			@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+			@Param("cursorId") Long cursorId,
+			Limit limit);
+
+	// Only used to seed the in-memory unread counter for a student
+	@Query("select count(n) from Notification n where n.studentId = :studentId and n.isRead = false")
+	long countUnread(@Param("studentId") Long studentId);
+
+	// Both updates return how many rows actually flipped, which is what the unread counter subtracts
+	@Modifying
+	@Query("update Notification n set n.isRead = true "
+			+ "where n.studentId = :studentId and n.id in :ids and n.isRead = false")
+	int markRead(@Param("studentId") Long studentId, @Param("ids") Collection<Long> ids);
+
+	@Modifying
+	@Query("update Notification n set n.isRead = true where n.studentId = :studentId and n.isRead = false")
+	int markAllRead(@Param("studentId") Long studentId);
+}
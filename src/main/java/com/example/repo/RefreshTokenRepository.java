@@ -0,0 +1,45 @@
+package com.example.repo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.entity.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // Spends the token; only one of two concurrent refreshes with the same token gets 1
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.usedAt = :now "
+            + "where t.id = :id and t.usedAt is null and t.revokedAt is null")
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    // Every session of the user, when a change to the user invalidates the tokens already issued
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.username = :username and t.revokedAt is null")
+    int revokeAllFor(@Param("username") String username, @Param("now") LocalDateTime now);
+
+    // Sessions revoked recently enough that their access tokens may still be unexpired
+    @Query("select distinct t.familyId from RefreshToken t where t.revokedAt > :since")
+    List<String> findFamiliesRevokedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
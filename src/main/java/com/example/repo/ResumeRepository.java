@@ -0,0 +1,83 @@
+package com.example.repo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.entity.ExtractionStatus;
+import com.example.entity.Resume;
+
+public interface ResumeRepository extends JpaRepository<Resume, Long> {
+
+    List<Resume> findByStudentIdOrderByUploadedAtDesc(Long studentId);
+
+    // Pending work whose backoff has elapsed, plus claims abandoned by a crashed worker
+    @Query("select r.id from Resume r where "
+            + "(r.extractionStatus = com.example.entity.ExtractionStatus.PENDING "
+            + "     and (r.nextAttemptAt is null or r.nextAttemptAt <= :now)) "
+            + "or (r.extractionStatus = com.example.entity.ExtractionStatus.PROCESSING and r.lastAttemptAt < :staleBefore) "
+            + "order by r.id")
+    List<Long> findDueForExtraction(@Param("now") LocalDateTime now,
+                                    @Param("staleBefore") LocalDateTime staleBefore,
+                                    Limit limit);
+
+    // Conditional update so that only one worker processes a resume; returns 1 when claimed
+    @Transactional
+    @Modifying
+    @Query("update Resume r set r.extractionStatus = com.example.entity.ExtractionStatus.PROCESSING, "
+            + "r.extractionAttempts = r.extractionAttempts + 1, r.lastAttemptAt = :now "
+            + "where r.id = :id and (r.extractionStatus = com.example.entity.ExtractionStatus.PENDING "
+            + "or (r.extractionStatus = com.example.entity.ExtractionStatus.PROCESSING and r.lastAttemptAt < :staleBefore))")
+    int claimForExtraction(@Param("id") Long id,
+                           @Param("now") LocalDateTime now,
+                           @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("update Resume r set r.extractionStatus = com.example.entity.ExtractionStatus.DONE, "
+            + "r.extractedSkills = :skills, r.extractionError = null, r.nextAttemptAt = null where r.id = :id")
+    int markExtracted(@Param("id") Long id, @Param("skills") String skills);
+
+    @Transactional
+    @Modifying
+    @Query("update Resume r set r.extractionStatus = :status, r.extractionError = :error, "
+            + "r.nextAttemptAt = :nextAttemptAt where r.id = :id")
+    int markExtractionFailed(@Param("id") Long id,
+                             @Param("status") ExtractionStatus status,
+                             @Param("error") String error,
+                             @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // Extracted resumes in id order, a page at a time
+    @Query("select r.id from Resume r where r.extractionStatus = com.example.entity.ExtractionStatus.DONE "
+            + "and r.id > :afterId order by r.id")
+    List<Long> findExtractedIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Extracted resumes whose last claim was at or after :since, served by idx_resume_extracted
+    @Query("select r.id from Resume r where r.extractionStatus = com.example.entity.ExtractionStatus.DONE "
+            + "and r.lastAttemptAt >= :since order by r.id")
+    List<Long> findExtractedSince(@Param("since") LocalDateTime since);
+
+    @Query("select r.extractedSkills from Resume r where r.studentId = :studentId "
+            + "and r.extractionStatus = com.example.entity.ExtractionStatus.DONE and r.extractedSkills is not null")
+    List<String> findExtractedSkillsByStudentId(@Param("studentId") Long studentId);
+
+    // Grouped by student so callers can stream one student's resumes at a time
+    @Query("select r.studentId as studentId, r.extractedSkills as extractedSkills from Resume r "
+            + "where r.studentId is not null and r.extractionStatus = com.example.entity.ExtractionStatus.DONE "
+            + "and r.extractedSkills is not null order by r.studentId, r.id")
+    Slice<StudentResumeSkills> findAllExtractedSkills(Pageable pageable);
+
+    interface StudentResumeSkills {
+        Long getStudentId();
+
+        String getExtractedSkills();
+    }
+}
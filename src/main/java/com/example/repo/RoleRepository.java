@@ -2,12 +2,22 @@ package com.example.repo;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.entity.Role;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+
+    // Result ids are cached until the roles table changes; the Role itself comes from its entity region
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "role-by-name")
+    })
     Optional<Role> findByName(String name);
-}
\ No newline at end of file
+}
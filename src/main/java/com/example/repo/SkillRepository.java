@@ -1,9 +1,29 @@
 package com.example.repo;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.entity.Skill;
 
 public interface SkillRepository extends JpaRepository<Skill, Long> {
     // Example: List<Skill> findByStudentId(Long studentId);
-}
\ No newline at end of file
+
+    @Query("select s.name from Skill s where s.student.id = :studentId")
+    List<String> findNamesByStudentId(@Param("studentId") Long studentId);
+
+    // Grouped by student so callers can stream one student's skills at a time
+    @Query("select s.student.id as studentId, s.name as name from Skill s "
+            + "where s.student is not null order by s.student.id, s.id")
+    Slice<StudentSkillName> findAllStudentSkillNames(Pageable pageable);
+
+    interface StudentSkillName {
+        Long getStudentId();
+
+        String getName();
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.repo;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.entity.Student;
@@ -10,4 +14,62 @@ import com.example.entity.Student;
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByEmail(String email);
-}
\ No newline at end of file
+
+    // Served from the uk_student_email index alone
+    @Query("select s.id from Student s where s.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    // The whole profile in one round trip: the student row followed by its skills,
+    // education and experience, each shaped into the same generic columns (see ProfileRow).
+    // Fetch-joining the three lists instead would multiply them into a cartesian product.
+    @Query(nativeQuery = true, value = """
+            select 'S' as kind, s.id as id, s.version as version,
+                   s.name as text1, s.email as text2, s.phone as text3, s.location as text4, s.avatar as text5,
+                   null as number1, null as number2, null as gpa, null as date1, null as date2
+              from student s where s.id = :id
+            union all
+            select 'K', k.id, null, k.name, k.description, null, null, null, null, null, null, null, null
+              from skill k where k.student_id = :id
+            union all
+            select 'E', e.id, null, e.school, e.degree, null, null, null, e.start_year, e.end_year, e.gpa, null, null
+              from education e where e.student_id = :id
+            union all
+            select 'X', x.id, null, x.role, x.company, x.description, null, null, null, null, null,
+                   x.start_date, x.end_date
+              from experience x where x.student_id = :id
+            order by kind, id
+            """)
+    List<ProfileRow> findProfileRows(@Param("id") Long id);
+
+    /**
+     * One row of {@link #findProfileRows}. {@code kind} is S (student), K (skill),
+     * E (education) or X (experience) and decides what the generic columns hold.
+     */
+    interface ProfileRow {
+        String getKind();
+
+        Long getId();
+
+        Long getVersion();
+
+        String getText1();
+
+        String getText2();
+
+        String getText3();
+
+        String getText4();
+
+        String getText5();
+
+        Integer getNumber1();
+
+        Integer getNumber2();
+
+        Double getGpa();
+
+        LocalDate getDate1();
+
+        LocalDate getDate2();
+    }
+}
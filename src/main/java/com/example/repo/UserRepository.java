@@ -1,12 +1,32 @@
 package com.example.repo;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.entity.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByEmail(String email);
-}
 
+	boolean existsByEmail(String email);
+
+	// Rehash of the same password at a new cost: a bulk update, so entity listeners
+	// (which revoke the user's tokens on any change) do not fire for it
+	@Transactional
+	@Modifying
+	@Query("update User u set u.password = :password where u.email = :email")
+	int updatePassword(@Param("email") String email, @Param("password") String password);
+
+	// Users with a session or all their tokens revoked recently, whose cached details may predate the revocation
+	@Query("select u from User u where u.email in "
+			+ "(select t.username from RefreshToken t where t.revokedAt > :since) or u.email in "
+			+ "(select r.username from UserRevocation r where r.revokedAt > :since)")
+	List<User> findWithTokensRevokedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,23 @@
+package com.example.repo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.entity.UserRevocation;
+
+public interface UserRevocationRepository extends JpaRepository<UserRevocation, Long> {
+
+    @Query("select distinct r.username from UserRevocation r where r.revokedAt > :since")
+    List<String> findUsernamesRevokedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UserRevocation r where r.revokedAt < :cutoff")
+    int deleteRevokedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,74 @@
+package com.example.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import static com.example.config.TransactionCallbacks.afterCommit;
+
+import com.example.entity.Job;
+import com.example.repo.JobRepository;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Keeps {@link JobSearchIndex} in step with the job table: JPA callbacks on
+ * {@link Job} apply each change once its transaction commits, and on startup
+ * the index is rebuilt if it has drifted from the database.
+ */
+@Component
+public class JobIndexListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobIndexListener.class);
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    // Lazy: Hibernate creates this listener while the EntityManagerFactory that
+    // repositories need is still being built
+    @Lazy
+    @Autowired
+    private JobRepository jobRepository;
+
+    @PostPersist
+    @PostUpdate
+    public void onJobSaved(Job job) {
+        afterCommit(() -> jobSearchIndex.index(job));
+    }
+
+    @PostRemove
+    public void onJobRemoved(Job job) {
+        Long jobId = job.getId();
+        afterCommit(() -> jobSearchIndex.delete(jobId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        long jobs = jobRepository.count();
+        if (jobSearchIndex.size() == jobs) {
+            return;
+        }
+        logger.info("Rebuilding job search index ({} indexed, {} in database)", jobSearchIndex.size(), jobs);
+        jobSearchIndex.deleteAll();
+        Page<Job> page = jobRepository.findAll(PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id")));
+        while (true) {
+            page.forEach(jobSearchIndex::index);
+            if (!page.hasNext()) {
+                break;
+            }
+            page = jobRepository.findAll(page.nextPageable());
+        }
+        jobSearchIndex.commit();
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.DrillDownQuery;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.dto.JobSearchHitDTO;
+import com.example.dto.JobSearchResultDTO;
+import com.example.entity.Job;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Embedded Lucene index over job postings, stored on local disk. Searches are
+ * served entirely from the index (stored fields + doc-values facets), never
+ * from MySQL. Writes become visible to searchers within about a second.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    public static final String LOCATION = "location";
+    public static final String JOB_TYPE = "jobType";
+    public static final String COMPANY = "company";
+
+    private static final List<String> FACET_DIMENSIONS = List.of(LOCATION, JOB_TYPE, COMPANY);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String REQUIREMENTS = "requirements";
+
+    private static final int FACET_VALUES = 10;
+
+    // Lucene collects every hit up to the end of the requested page, so hits stop at this depth
+    public static final int MAX_RESULT_DEPTH = 1000;
+
+    // Title and company matches count for more than body text
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            TITLE, 3.0f,
+            COMPANY, 2.0f,
+            REQUIREMENTS, 1.5f,
+            DESCRIPTION, 1.0f);
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final ScheduledExecutorService committer;
+
+    // Facet ordinals are per reader; rebuilt lazily after a refresh
+    private volatile ReaderFacetState facetState;
+
+    public JobSearchIndex(@Value("${jobs.search.index-dir:data/job-index}") Path indexDir) throws IOException {
+        this.directory = FSDirectory.open(indexDir);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setSimilarity(new BM25Similarity());
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, 1.0, 0.025);
+        reopenThread.setName("job-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+
+        // Commit periodically; a crash loses at most this window, and startup
+        // reconciles against the database anyway
+        this.committer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "job-index-commit");
+            t.setDaemon(true);
+            return t;
+        });
+        committer.scheduleWithFixedDelay(this::commitQuietly, 30, 30, TimeUnit.SECONDS);
+    }
+
+    public void index(Job job) {
+        try {
+            writer.updateDocument(new Term(ID, job.getId().toString()), facetsConfig.build(toDocument(job)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index job " + job.getId(), e);
+        }
+    }
+
+    public void delete(Long jobId) {
+        try {
+            writer.deleteDocuments(new Term(ID, jobId.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove job " + jobId + " from index", e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clear job index", e);
+        }
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    public void commit() {
+        try {
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit job index", e);
+        }
+    }
+
+    /**
+     * Full-text search with BM25 ranking. Filters are exact facet values; the
+     * returned facet counts reflect the filtered result set.
+     */
+    public JobSearchResultDTO search(String text, Map<String, String> filters, int page, int size) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                DrillDownQuery query = new DrillDownQuery(facetsConfig, parse(text));
+                filters.forEach((dimension, value) -> {
+                    if (value != null && !value.isBlank()) {
+                        query.add(dimension, value);
+                    }
+                });
+
+                // Past the depth the page is empty; total and facets are still counted
+                long offset = (long) page * size;
+                int topN = (int) Math.min(offset + size, MAX_RESULT_DEPTH);
+                FacetsCollectorManager.FacetsResult result = FacetsCollectorManager.search(
+                        searcher, query, offset < MAX_RESULT_DEPTH ? topN : 0, new FacetsCollectorManager());
+                TopDocs topDocs = result.topDocs();
+
+                List<JobSearchHitDTO> hits = new ArrayList<>();
+                StoredFields storedFields = searcher.storedFields();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = (int) Math.min(offset, MAX_RESULT_DEPTH); i < scoreDocs.length; i++) {
+                    Document doc = storedFields.document(scoreDocs[i].doc);
+                    hits.add(new JobSearchHitDTO(
+                            Long.valueOf(doc.get(ID)),
+                            doc.get(TITLE),
+                            doc.get(COMPANY),
+                            doc.get(LOCATION),
+                            doc.get(JOB_TYPE),
+                            scoreDocs[i].score));
+                }
+
+                return new JobSearchResultDTO(topDocs.totalHits.value, hits,
+                        facetCounts(searcher.getIndexReader(), result.facetsCollector()));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Job search failed", e);
+        }
+    }
+
+    private Query parse(String text) {
+        if (text == null || text.isBlank()) {
+            return new MatchAllDocsQuery();
+        }
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        return parser.parse(text);
+    }
+
+    private Map<String, Map<String, Integer>> facetCounts(IndexReader reader, FacetsCollector collector) throws IOException {
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        SortedSetDocValuesReaderState state = facetStateFor(reader);
+        if (state == null) {
+            return counts;
+        }
+        Facets facets = new SortedSetDocValuesFacetCounts(state, collector);
+        for (String dimension : FACET_DIMENSIONS) {
+            Map<String, Integer> values = new LinkedHashMap<>();
+            FacetResult facetResult = state.getOrdRange(dimension) == null ? null
+                    : facets.getTopChildren(FACET_VALUES, dimension);
+            if (facetResult != null) {
+                for (LabelAndValue lv : facetResult.labelValues) {
+                    values.put(lv.label, lv.value.intValue());
+                }
+            }
+            counts.put(dimension, values);
+        }
+        return counts;
+    }
+
+    private SortedSetDocValuesReaderState facetStateFor(IndexReader reader) throws IOException {
+        ReaderFacetState current = facetState;
+        if (current != null && current.reader == reader) {
+            return current.state;
+        }
+        synchronized (this) {
+            current = facetState;
+            if (current == null || current.reader != reader) {
+                SortedSetDocValuesReaderState state;
+                try {
+                    state = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+                } catch (IllegalArgumentException e) {
+                    // Nothing with facet fields has been indexed yet
+                    state = null;
+                }
+                current = new ReaderFacetState(reader, state);
+                facetState = current;
+            }
+            return current.state;
+        }
+    }
+
+    private static Document toDocument(Job job) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, job.getId().toString(), Field.Store.YES));
+        addText(doc, TITLE, job.getTitle(), Field.Store.YES);
+        addText(doc, DESCRIPTION, job.getDescription(), Field.Store.NO);
+        addText(doc, REQUIREMENTS, job.getRequirements(), Field.Store.NO);
+        addFacet(doc, COMPANY, job.getCompany());
+        addFacet(doc, LOCATION, job.getLocation());
+        addFacet(doc, JOB_TYPE, job.getJobType());
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value, Field.Store store) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, store));
+        }
+    }
+
+    // Searchable as text, returned as stored value, and countable as a facet
+    private static void addFacet(Document doc, String dimension, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(dimension, value, Field.Store.YES));
+            doc.add(new SortedSetDocValuesFacetField(dimension, value));
+        }
+    }
+
+    private void commitQuietly() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Job index commit failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        committer.shutdown();
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private record ReaderFacetState(IndexReader reader, SortedSetDocValuesReaderState state) {
+    }
+}
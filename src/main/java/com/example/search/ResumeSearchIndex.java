@@ -0,0 +1,197 @@
+package com.example.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.dto.ResumeSearchHitDTO;
+import com.example.dto.ResumeSearchResultDTO;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Embedded Lucene index over extracted resume text, fed by the extraction
+ * pipeline. Only ids and the file name are stored; the text itself is
+ * indexed but not kept. Every instance keeps its own complete index.
+ */
+@Component
+public class ResumeSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String STUDENT_ID = "studentId";
+    private static final String FILE_NAME = "fileName";
+    private static final String TEXT = "text";
+
+    // As for job search: Lucene collects every hit up to the end of the page, so hits stop at this depth
+    public static final int MAX_RESULT_DEPTH = 1000;
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final ScheduledExecutorService committer;
+
+    public ResumeSearchIndex(@Value("${resumes.search.index-dir:data/resume-index}") Path indexDir) throws IOException {
+        this.directory = FSDirectory.open(indexDir);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setSimilarity(new BM25Similarity());
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, 1.0, 0.025);
+        reopenThread.setName("resume-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+
+        this.committer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "resume-index-commit");
+            t.setDaemon(true);
+            return t;
+        });
+        committer.scheduleWithFixedDelay(this::commitQuietly, 30, 30, TimeUnit.SECONDS);
+    }
+
+    public void index(Long resumeId, Long studentId, String fileName, String text) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, resumeId.toString(), Field.Store.YES));
+        if (studentId != null) {
+            doc.add(new StoredField(STUDENT_ID, studentId));
+        }
+        if (fileName != null) {
+            doc.add(new StoredField(FILE_NAME, fileName));
+        }
+        doc.add(new TextField(TEXT, text, Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(ID, resumeId.toString()), doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index resume " + resumeId, e);
+        }
+    }
+
+    /**
+     * Whether this instance's index has the resume. Reads the near-real-time
+     * searcher, so a resume indexed within the last second may not show yet.
+     */
+    public boolean contains(Long resumeId) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.count(new TermQuery(new Term(ID, resumeId.toString()))) > 0;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Resume index lookup failed", e);
+        }
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    public void commit() {
+        try {
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit resume index", e);
+        }
+    }
+
+    public ResumeSearchResultDTO search(String text, int page, int size) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Query query = parse(text);
+                long offset = (long) page * size;
+                if (offset >= MAX_RESULT_DEPTH) {
+                    return new ResumeSearchResultDTO(searcher.count(query), List.of());
+                }
+                TopDocs topDocs = searcher.search(query, (int) Math.min(offset + size, MAX_RESULT_DEPTH));
+                List<ResumeSearchHitDTO> hits = new ArrayList<>();
+                StoredFields storedFields = searcher.storedFields();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = (int) offset; i < scoreDocs.length; i++) {
+                    Document doc = storedFields.document(scoreDocs[i].doc);
+                    Number studentId = doc.getField(STUDENT_ID) != null ? doc.getField(STUDENT_ID).numericValue() : null;
+                    hits.add(new ResumeSearchHitDTO(
+                            Long.valueOf(doc.get(ID)),
+                            studentId != null ? studentId.longValue() : null,
+                            doc.get(FILE_NAME),
+                            scoreDocs[i].score));
+                }
+                return new ResumeSearchResultDTO(topDocs.totalHits.value, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Resume search failed", e);
+        }
+    }
+
+    private Query parse(String text) {
+        if (text == null || text.isBlank()) {
+            return new MatchNoDocsQuery();
+        }
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, TEXT);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        return parser.parse(text);
+    }
+
+    private void commitQuietly() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Resume index commit failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        committer.shutdown();
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
@@ -1,33 +1,76 @@
 package com.example.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.dto.ApplicationDTO;
-import com.example.entity.Application;
-import com.example.entity.Student;
+import com.example.dto.ApplicationPageDTO;
 import com.example.repo.ApplicationRepository;
 
+// Read-only transactions go to a replica when datasource.replicas.urls is set
 @Service
+@Transactional(readOnly = true)
 public class ApplicationService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ApplicationRepository applicationRepository;
 
     public ApplicationService(ApplicationRepository applicationRepository) {
         this.applicationRepository = applicationRepository;
     }
 
-    public List<ApplicationDTO> getApplicationsByStudentId(Long studentId) {
-        List<Application> applications = applicationRepository.findByStudentId(studentId);
-        return applications.stream().map(app -> new ApplicationDTO(
-                app.getJob().getTitle(),
-                app.getJob().getCompany(),
-                app.getJob().getLocation(),
-                app.getAppliedDate(),
-                app.getStatus(),
-                app.getJob().getId()
-        )).collect(Collectors.toList());
+    /**
+     * Returns one keyset page of a student's applications. The cursor is the
+     * opaque token handed out as nextCursor by the previous page, so the cost
+     * of a page does not depend on how deep into the list it is.
+     */
+    public ApplicationPageDTO getApplicationPage(Long studentId, String status, LocalDate from, LocalDate to,
+                                                 String cursor, int size, boolean newestFirst) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorDate = LocalDate.parse(parts[0]);
+            cursorId = Long.valueOf(parts[1]);
+        }
+
+        // Fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<ApplicationDTO> rows = newestFirst
+                ? applicationRepository.findPageNewestFirst(studentId, status, from, to, cursorDate, cursorId, limit)
+                : applicationRepository.findPageOldestFirst(studentId, status, from, to, cursorDate, cursorId, limit);
+
+        if (rows.size() <= pageSize) {
+            return new ApplicationPageDTO(rows, null);
+        }
+        List<ApplicationDTO> page = rows.subList(0, pageSize);
+        ApplicationDTO last = page.get(pageSize - 1);
+        return new ApplicationPageDTO(List.copyOf(page), encodeCursor(last.getAppliedDate(), last.getId()));
+    }
+
+    private static String encodeCursor(LocalDate appliedDate, Long id) {
+        String raw = appliedDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 }
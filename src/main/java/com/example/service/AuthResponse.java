@@ -9,23 +9,28 @@ public class AuthResponse {
     private String role;
     private String avatar;
     private String token;
+    private String refreshToken;
 
     public AuthResponse() {}
 
     public AuthResponse(String token, User user) {
-        this.token = token;
-        this.id = user.getId();
-        this.name = user.getFullName();
-        this.email = user.getEmail();
-
         // Assume user has at least one role
-        this.role = user.getRoles().stream()
+        this(token, user.getId(), user.getFullName(), user.getEmail(),
+                user.getRoles().stream()
                         .findFirst()
-                        .map(r -> r.getName().replace("ROLE_", "").toLowerCase())
-                        .orElse("user");
+                        .map(r -> r.getName())
+                        .orElse("user"));
+    }
+
+    public AuthResponse(String token, Long id, String fullName, String email, String roleName) {
+        this.token = token;
+        this.id = id;
+        this.name = fullName;
+        this.email = email;
+        this.role = roleName.replace("ROLE_", "").toLowerCase();
 
         this.avatar = "https://ui-avatars.com/api/?name=" + 
-                      user.getFullName().replace(" ", "+") + 
+                      fullName.replace(" ", "+") + 
                       "&background=random";
     }
 
@@ -77,4 +82,12 @@ public class AuthResponse {
     public void setToken(String token) {
         this.token = token;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
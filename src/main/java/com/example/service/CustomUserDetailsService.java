@@ -1,43 +1,114 @@
 package com.example.service;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.example.entity.User;
 import com.example.repo.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.userdetails.*;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.stereotype.Service;
-import java.util.stream.Collectors;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
-    @Autowired
-    private UserRepository userRepository;
+    private final UserRepository userRepository;
+
+    // Read-through cache; entries are evicted explicitly when the user changes
+    private final Cache<String, AccountDetails> cache;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${auth.cache.user-details.max-size:10000}") long maxSize,
+                                    @Value("${auth.cache.user-details.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        AccountDetails cached = cache.get(email, this::loadFromDatabase);
+
+        // Hand out a copy: the AuthenticationManager erases credentials on the
+        // principal it returns, which must not wipe the cached password hash.
+        return cached.withPassword(cached.getPassword());
+    }
+
+    /**
+     * Called by the authentication provider after a successful login when the
+     * stored hash uses an older cost than the configured one.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        evict(user.getUsername());
+        if (user instanceof AccountDetails account) {
+            return account.withPassword(newPassword);
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    private AccountDetails loadFromDatabase(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
         List<GrantedAuthority> authorities = user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName().toUpperCase()))  // uppercase role names with ROLE_ prefix
+                .map(role -> new SimpleGrantedAuthority(role.getName().toUpperCase()))  // names are stored with their ROLE_ prefix
                 .collect(Collectors.toList());
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                authorities  // use the actual authorities here
-        );
+        return new AccountDetails(user.getId(), user.getFullName(), user.getEmail(), user.getPassword(), authorities);
     }
-}
 
+    /**
+     * The cached user: credentials and roles, plus the id and name a login
+     * response needs, so a login does not have to load the user again.
+     */
+    public static final class AccountDetails extends org.springframework.security.core.userdetails.User {
+
+        private final Long id;
+        private final String fullName;
+
+        AccountDetails(Long id, String fullName, String email, String password,
+                       Collection<? extends GrantedAuthority> authorities) {
+            super(email, password, authorities);
+            this.id = id;
+            this.fullName = fullName;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getFullName() {
+            return fullName;
+        }
+
+        AccountDetails withPassword(String password) {
+            return new AccountDetails(id, fullName, getUsername(), password, getAuthorities());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dto.JobDTO;
+import com.example.dto.JobImportReportDTO;
+import com.example.dto.JobImportReportDTO.RowError;
+import com.example.entity.Job;
+import com.example.importing.JobFeedReader;
+import com.example.importing.JobFeedReader.Format;
+import com.example.importing.JobFeedReader.Row;
+import com.example.matching.JobMatchNotifier;
+import com.example.matching.SkillMatchingEngine;
+import com.example.search.JobSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bulk import of partner job feeds. Rows are streamed from the upload,
+ * validated one by one, and inserted with plain JDBC batches, one transaction
+ * per chunk ({@code jobs.import.chunk-size} rows), bypassing the entity
+ * manager and its per-entity listeners. Once a chunk commits, its jobs are
+ * added to the search index and matching engine in one go.
+ *
+ * <ul>
+ * <li>Invalid rows are skipped and reported; the rest of the feed still loads.</li>
+ * <li>If the database rejects a chunk, its rows are retried one at a time so
+ * only the offending rows fail.</li>
+ * <li>Chunks that committed stay if the upload breaks off; the jobs are not
+ * deduplicated against earlier imports.</li>
+ * <li>Only new rows are written, so nothing in the second-level cache goes stale.</li>
+ * <li>Matching students are notified only when asked: for a backfill of
+ * existing postings that would flood the notification pipeline, which drops
+ * whatever does not fit its queue.</li>
+ * </ul>
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobImportService.class);
+
+    private static final String INSERT = "insert into job (title, company, location, job_type, description,"
+            + " requirements, posted_by) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final JobSearchIndex jobSearchIndex;
+    private final SkillMatchingEngine matchingEngine;
+    private final JobMatchNotifier jobMatchNotifier;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final Counter importedRows;
+    private final Counter failedRows;
+
+    public JobImportService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            JobSearchIndex jobSearchIndex,
+                            SkillMatchingEngine matchingEngine,
+                            JobMatchNotifier jobMatchNotifier,
+                            MeterRegistry registry,
+                            @Value("${jobs.import.chunk-size:1000}") int chunkSize,
+                            @Value("${jobs.import.max-errors:1000}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.jobSearchIndex = jobSearchIndex;
+        this.matchingEngine = matchingEngine;
+        this.jobMatchNotifier = jobMatchNotifier;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.importedRows = Counter.builder("jobs.import.rows").tag("result", "imported").register(registry);
+        this.failedRows = Counter.builder("jobs.import.rows").tag("result", "failed").register(registry);
+    }
+
+    /**
+     * Imports every valid row of the feed as a job posted by the recruiter.
+     *
+     * @throws JobFeedReader.InvalidFeedException if the feed cannot be read at all
+     */
+    public JobImportReportDTO importJobs(InputStream in, Format format, String recruiter, boolean notify)
+            throws IOException {
+        long start = System.nanoTime();
+        JobImportReportDTO report = new JobImportReportDTO();
+        List<Pending> chunk = new ArrayList<>(chunkSize);
+        try (JobFeedReader reader = JobFeedReader.open(in, format, objectMapper.getFactory())) {
+            Row row;
+            while ((row = reader.next()) != null) {
+                report.setReceived(report.getReceived() + 1);
+                String problem = row.error() != null ? row.error() : JobService.validate(row.job());
+                if (problem != null) {
+                    fail(report, row.number(), problem);
+                    continue;
+                }
+                chunk.add(new Pending(row.number(), toJob(row.job(), recruiter)));
+                if (chunk.size() == chunkSize) {
+                    store(chunk, report, notify);
+                    chunk.clear();
+                }
+            }
+            store(chunk, report, notify);
+        } finally {
+            report.setElapsedMs((System.nanoTime() - start) / 1_000_000);
+            logger.info("Job import by {}: {} rows, {} imported, {} failed in {} ms", recruiter,
+                    report.getReceived(), report.getImported(), report.getFailed(), report.getElapsedMs());
+        }
+        return report;
+    }
+
+    private record Pending(long row, Job job) {
+    }
+
+    private void store(List<Pending> chunk, JobImportReportDTO report, boolean notify) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Job> stored;
+        try {
+            stored = transactionTemplate.execute(status -> insert(chunk));
+        } catch (DataAccessException e) {
+            logger.debug("Import chunk rejected, retrying row by row: {}", e.getMessage());
+            stored = new ArrayList<>();
+            for (Pending pending : chunk) {
+                try {
+                    stored.addAll(transactionTemplate.execute(status -> insert(List.of(pending))));
+                } catch (DataAccessException rowFailure) {
+                    fail(report, pending.row(), "Rejected by the database: "
+                            + rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        report.setImported(report.getImported() + stored.size());
+        importedRows.increment(stored.size());
+
+        // What JobIndexListener and JobSkillListener do per entity, for the whole committed chunk
+        for (Job job : stored) {
+            jobSearchIndex.index(job);
+            int[] skills = matchingEngine.putJob(job.getId(), job.getRequirements());
+            if (notify) {
+                jobMatchNotifier.jobPosted(job.getId(), job.getTitle(), job.getCompany(), skills);
+            }
+        }
+    }
+
+    // One multi-row batch; the generated ids come back in row order
+    private List<Job> insert(List<Pending> rows) {
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Job job = rows.get(i).job();
+                        statement.setString(1, job.getTitle());
+                        statement.setString(2, job.getCompany());
+                        statement.setString(3, job.getLocation());
+                        statement.setString(4, job.getJobType());
+                        statement.setString(5, job.getDescription());
+                        statement.setString(6, job.getRequirements());
+                        statement.setString(7, job.getPostedBy());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keys);
+
+        List<Job> stored = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Job job = rows.get(i).job();
+            job.setId(((Number) keys.getKeyList().get(i).values().iterator().next()).longValue());
+            stored.add(job);
+        }
+        return stored;
+    }
+
+    private void fail(JobImportReportDTO report, long row, String message) {
+        report.setFailed(report.getFailed() + 1);
+        failedRows.increment();
+        if (report.getErrors().size() < maxErrors) {
+            report.getErrors().add(new RowError(row, message));
+        }
+    }
+
+    private static Job toJob(JobDTO row, String recruiter) {
+        Job job = new Job(row.getTitle().strip(), row.getCompany().strip(), row.getLocation(), row.getJobType(),
+                row.getDescription(), row.getRequirements());
+        job.setPostedBy(recruiter);
+        return job;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dto.JobDTO;
+import com.example.dto.JobPageDTO;
+import com.example.entity.Job;
+import com.example.repo.JobRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Job postings as recruiters manage them. Writes go through JPA, so the
+ * entity listeners update the search index and matching engine and notify
+ * matching students once the transaction commits; bulk feeds take the JDBC
+ * path in {@link JobImportService}.
+ */
+@Service
+public class JobService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Column sizes from the migrations
+    private static final int MAX_TEXT = 255;
+    private static final int MAX_DESCRIPTION = 4000;
+    private static final int MAX_REQUIREMENTS = 2000;
+
+    private final JobRepository jobRepository;
+
+    public JobService(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public JobDTO getJob(Long id) {
+        return new JobDTO(find(id));
+    }
+
+    /**
+     * One page of a recruiter's postings, newest first. The cursor is the
+     * nextCursor of the previous page.
+     */
+    @Transactional(readOnly = true)
+    public JobPageDTO getJobsPostedBy(String recruiter, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<Job> rows = cursor == null || cursor.isBlank()
+                ? jobRepository.findByPostedByOrderByIdDesc(recruiter, limit)
+                : jobRepository.findByPostedByAndIdLessThanOrderByIdDesc(recruiter, parseCursor(cursor), limit);
+
+        List<JobDTO> items = rows.stream().limit(pageSize).map(JobDTO::new).toList();
+        String nextCursor = rows.size() > pageSize ? items.get(pageSize - 1).getId().toString() : null;
+        return new JobPageDTO(items, nextCursor);
+    }
+
+    @Transactional
+    public JobDTO createJob(JobDTO job, String recruiter) {
+        requireValid(job);
+        Job created = new Job();
+        copy(job, created);
+        created.setPostedBy(recruiter);
+        return new JobDTO(jobRepository.save(created));
+    }
+
+    @Transactional
+    public JobDTO updateJob(Long id, JobDTO job, String user, boolean admin) {
+        requireValid(job);
+        Job existing = findOwned(id, user, admin);
+        copy(job, existing);
+        return new JobDTO(existing);
+    }
+
+    @Transactional
+    public void deleteJob(Long id, String user, boolean admin) {
+        jobRepository.delete(findOwned(id, user, admin));
+    }
+
+    /**
+     * What is wrong with a posting, or null if it can be stored. Shared with
+     * the bulk import, which reports it per row instead of failing.
+     */
+    public static String validate(JobDTO job) {
+        if (isBlank(job.getTitle())) {
+            return "title is required";
+        }
+        if (isBlank(job.getCompany())) {
+            return "company is required";
+        }
+        if (tooLong(job.getTitle(), MAX_TEXT)) {
+            return "title is longer than " + MAX_TEXT + " characters";
+        }
+        if (tooLong(job.getCompany(), MAX_TEXT)) {
+            return "company is longer than " + MAX_TEXT + " characters";
+        }
+        if (tooLong(job.getLocation(), MAX_TEXT)) {
+            return "location is longer than " + MAX_TEXT + " characters";
+        }
+        if (tooLong(job.getJobType(), MAX_TEXT)) {
+            return "jobType is longer than " + MAX_TEXT + " characters";
+        }
+        if (tooLong(job.getDescription(), MAX_DESCRIPTION)) {
+            return "description is longer than " + MAX_DESCRIPTION + " characters";
+        }
+        if (tooLong(job.getRequirements(), MAX_REQUIREMENTS)) {
+            return "requirements is longer than " + MAX_REQUIREMENTS + " characters";
+        }
+        return null;
+    }
+
+    private Job find(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Job not found with ID: " + id));
+    }
+
+    // Admins may change any posting; recruiters only their own
+    private Job findOwned(Long id, String user, boolean admin) {
+        Job job = find(id);
+        if (!admin && !user.equals(job.getPostedBy())) {
+            throw new NotJobOwnerException("Job " + id + " was not posted by you");
+        }
+        return job;
+    }
+
+    private static void requireValid(JobDTO job) {
+        String problem = validate(job);
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+    }
+
+    private static void copy(JobDTO from, Job to) {
+        to.setTitle(from.getTitle().strip());
+        to.setCompany(from.getCompany().strip());
+        to.setLocation(from.getLocation());
+        to.setJobType(from.getJobType());
+        to.setDescription(from.getDescription());
+        to.setRequirements(from.getRequirements());
+    }
+
+    private static Long parseCursor(String cursor) {
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static boolean tooLong(String value, int max) {
+        return value != null && value.length() > max;
+    }
+
+    /**
+     * The posting belongs to another recruiter.
+     */
+    public static class NotJobOwnerException extends RuntimeException {
+
+        public NotJobOwnerException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dto.JobMatchDTO;
+import com.example.entity.Job;
+import com.example.matching.ScoredJob;
+import com.example.matching.SkillMatchingEngine;
+import com.example.repo.SkillRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class MatchingService {
+
+    public static final int MAX_RESULTS = 100;
+
+    private final SkillMatchingEngine matchingEngine;
+    private final SkillRepository skillRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Top-K jobs for a student by skill overlap. Scoring runs in memory; the
+     * database is only asked for the student's skill names and whichever of
+     * the K winners are not in the second-level cache.
+     */
+    @Transactional(readOnly = true)
+    public List<JobMatchDTO> getTopJobsForStudent(Long studentId, int k) {
+        List<String> skills = skillRepository.findNamesByStudentId(studentId);
+        List<ScoredJob> top = matchingEngine.topJobs(skills, Math.max(1, Math.min(k, MAX_RESULTS)));
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        // Unlike a query, a multi-load reads cached jobs from the second-level cache and fetches only the rest
+        List<Job> loaded = entityManager.unwrap(Session.class).byMultipleIds(Job.class)
+                .multiLoad(top.stream().map(ScoredJob::jobId).toList());
+        Map<Long, Job> jobs = loaded.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return top.stream()
+                .filter(match -> jobs.containsKey(match.jobId()))
+                .map(match -> {
+                    Job job = jobs.get(match.jobId());
+                    return new JobMatchDTO(job.getId(), job.getTitle(), job.getCompany(), job.getLocation(), match.score());
+                })
+                .collect(Collectors.toList());
+    }
+}
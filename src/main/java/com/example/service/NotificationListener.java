@@ -0,0 +1,69 @@
+package com.example.service;
+
+import static com.example.config.TransactionCallbacks.accumulate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.example.dto.NotificationDTO;
+import com.example.entity.Notification;
+import com.example.push.StudentEventBus;
+
+import jakarta.persistence.PostPersist;
+
+/**
+ * Applies inserted notifications once their transaction commits: bumps
+ * {@link UnreadNotificationCounter} and pushes each one to the student's open
+ * event streams. Fan-out writes thousands of rows per transaction, so
+ * increments are summed per student and applied together.
+ */
+@Component
+public class NotificationListener {
+
+    public static final String EVENT = "notification";
+
+    // Lazy: Hibernate creates this listener while the EntityManagerFactory that
+    // repositories need is still being built
+    @Lazy
+    @Autowired
+    private UnreadNotificationCounter unreadCounter;
+
+    @Autowired
+    private StudentEventBus eventBus;
+
+    @PostPersist
+    public void onNotificationCreated(Notification notification) {
+        NotificationDTO dto = new NotificationDTO(notification.getId(), notification.getTitle(),
+                notification.getMessage(), notification.getType(), notification.getCreatedAt(), notification.isRead());
+        Long studentId = notification.getStudentId();
+        accumulate(this, Committed::new, committed -> committed.add(studentId, dto), this::apply);
+    }
+
+    private void apply(Committed committed) {
+        committed.unread.forEach(unreadCounter::add);
+        for (int i = 0; i < committed.students.size(); i++) {
+            eventBus.publish(committed.students.get(i), EVENT, committed.notifications.get(i));
+        }
+    }
+
+    private static final class Committed {
+
+        private final Map<Long, Long> unread = new HashMap<>();
+        private final List<Long> students = new ArrayList<>();
+        private final List<NotificationDTO> notifications = new ArrayList<>();
+
+        void add(Long studentId, NotificationDTO notification) {
+            if (!notification.isRead()) {
+                unread.merge(studentId, 1L, Long::sum);
+            }
+            students.add(studentId);
+            notifications.add(notification);
+        }
+    }
+}
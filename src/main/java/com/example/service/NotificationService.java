@@ -0,0 +1,99 @@
+package com.example.service;
+
+import static com.example.config.TransactionCallbacks.afterCommit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.example.dto.NotificationDTO;
+import com.example.dto.NotificationPageDTO;
+import com.example.repo.NotificationRepository;
+
+import jakarta.transaction.Transactional;
+
+@Service
+public class NotificationService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
+
+    public NotificationService(NotificationRepository notificationRepository, UnreadNotificationCounter unreadCounter) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounter = unreadCounter;
+    }
+
+    /**
+     * Returns one keyset page of a student's inbox, newest first. The cursor
+     * is the nextCursor handed out with the previous page.
+     */
+    public NotificationPageDTO getInbox(Long studentId, boolean unreadOnly, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.valueOf(parts[1]);
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<NotificationDTO> rows = notificationRepository.findPage(studentId, unreadOnly, cursorCreatedAt, cursorId,
+                Limit.of(pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new NotificationPageDTO(rows, null);
+        }
+        List<NotificationDTO> page = rows.subList(0, pageSize);
+        NotificationDTO last = page.get(pageSize - 1);
+        return new NotificationPageDTO(List.copyOf(page), encodeCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    public long getUnreadCount(Long studentId) {
+        return unreadCounter.get(studentId);
+    }
+
+    @Transactional
+    public int markRead(Long studentId, Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return decrementAfterCommit(studentId, notificationRepository.markRead(studentId, ids));
+    }
+
+    @Transactional
+    public int markAllRead(Long studentId) {
+        return decrementAfterCommit(studentId, notificationRepository.markAllRead(studentId));
+    }
+
+    private int decrementAfterCommit(Long studentId, int flipped) {
+        if (flipped > 0) {
+            afterCommit(() -> unreadCounter.add(studentId, -flipped));
+        }
+        return flipped;
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(",");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
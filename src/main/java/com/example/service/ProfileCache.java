@@ -0,0 +1,78 @@
+package com.example.service;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.dto.StudentDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Student profiles kept as ready-to-send JSON, so a hit costs neither a query
+ * nor a Jackson pass. Concurrent misses for one student share a single load
+ * (Caffeine blocks the other callers on the same key rather than loading
+ * again). Entries are bounded by total JSON bytes and a TTL; writers evict
+ * their student after commit, and the TTL bounds the rare case of a load that
+ * read the old row finishing after that eviction.
+ *
+ * <p>The cache is per instance and eviction is local: an instance that did not
+ * handle the write keeps serving the old profile (and its ETag) until the entry
+ * expires, so the TTL is also the staleness limit across instances. Keep it short.
+ */
+@Component
+public class ProfileCache {
+
+    /**
+     * Serialized profile plus the version it was read at, which is its ETag.
+     */
+    public record CachedProfile(byte[] json, Long version) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedProfile> cache;
+    private final Timer loadTimer;
+
+    public ProfileCache(ObjectMapper objectMapper,
+                        MeterRegistry registry,
+                        @Value("${profiles.cache.max-bytes:67108864}") long maxBytes,
+                        @Value("${profiles.cache.ttl:1m}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, CachedProfile profile) -> profile.json().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.loadTimer = Timer.builder("profiles.cache.load")
+                .description("Profile query and serialization on a cache miss")
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, cache, "studentProfiles");
+        Gauge.builder("profiles.cache.hit_ratio", cache, c -> c.stats().hitRate()).register(registry);
+    }
+
+    public CachedProfile get(Long studentId, Function<Long, StudentDTO> loader) {
+        return cache.get(studentId, id -> loadTimer.record(() -> serialize(loader.apply(id))));
+    }
+
+    public void invalidate(Long studentId) {
+        cache.invalidate(studentId);
+    }
+
+    private CachedProfile serialize(StudentDTO profile) {
+        try {
+            return new CachedProfile(objectMapper.writeValueAsBytes(profile), profile.getVersion());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize profile " + profile.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.service;
+
+import static com.example.config.TransactionCallbacks.afterCommit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.dto.ResumeDTO;
+import com.example.dto.ResumeSearchResultDTO;
+import com.example.entity.ExtractionStatus;
+import com.example.entity.Resume;
+import com.example.extraction.ResumeExtractionPipeline;
+import com.example.repo.ResumeRepository;
+import com.example.search.ResumeSearchIndex;
+import com.example.storage.ResumeStore;
+import com.example.storage.ResumeStore.StoredFile;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@Service
+public class ResumeService {
+
+    public static final Set<String> ALLOWED_TYPES = Set.of(
+            "application/pdf",
+            "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+
+    public static final int MAX_SEARCH_SIZE = 100;
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeStore resumeStore;
+    private final ResumeExtractionPipeline extractionPipeline;
+    private final ResumeSearchIndex resumeSearchIndex;
+
+    public ResumeService(ResumeRepository resumeRepository, ResumeStore resumeStore,
+                         ResumeExtractionPipeline extractionPipeline, ResumeSearchIndex resumeSearchIndex) {
+        this.resumeRepository = resumeRepository;
+        this.resumeStore = resumeStore;
+        this.extractionPipeline = extractionPipeline;
+        this.resumeSearchIndex = resumeSearchIndex;
+    }
+
+    /**
+     * Streams the upload into the store (multipart parts are already spooled
+     * to disk by the container) and records it for the student. Returns once
+     * the file and row are durable; text extraction happens in the background.
+     */
+    public ResumeDTO upload(Long studentId, MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Resume file is empty");
+        }
+        String fileType = file.getContentType();
+        if (fileType == null || !ALLOWED_TYPES.contains(fileType)) {
+            throw new IllegalArgumentException("Unsupported resume type: " + fileType);
+        }
+        String fileName = StringUtils.getFilename(StringUtils.cleanPath(String.valueOf(file.getOriginalFilename())));
+        if (!StringUtils.hasText(fileName)) {
+            fileName = "resume";
+        }
+
+        StoredFile stored;
+        try (InputStream content = file.getInputStream()) {
+            stored = resumeStore.store(content);
+        }
+        Resume resume = new Resume(fileName, fileType, stored.size(), LocalDateTime.now(), stored.relativePath());
+        resume.setStudentId(studentId);
+        resume.setSha256(stored.sha256());
+        resume.setExtractionStatus(ExtractionStatus.PENDING);
+        Resume saved = resumeRepository.save(resume);
+        afterCommit(() -> extractionPipeline.submit(saved.getId()));
+        return toDto(saved);
+    }
+
+    public List<ResumeDTO> getResumesByStudentId(Long studentId) {
+        return resumeRepository.findByStudentIdOrderByUploadedAtDesc(studentId).stream()
+                .map(ResumeService::toDto)
+                .toList();
+    }
+
+    public ResumeSearchResultDTO search(String text, int page, int size) {
+        return resumeSearchIndex.search(text, Math.max(page, 0), Math.max(1, Math.min(size, MAX_SEARCH_SIZE)));
+    }
+
+    public Resume getResume(Long id) {
+        return resumeRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Resume not found: " + id));
+    }
+
+    public Path pathOf(Resume resume) {
+        // Rows from before the content-addressed store have no stored file
+        if (resume.getSha256() == null) {
+            throw new EntityNotFoundException("Resume file not available: " + resume.getId());
+        }
+        return resumeStore.resolve(resume.getSha256());
+    }
+
+    private static ResumeDTO toDto(Resume resume) {
+        return new ResumeDTO(resume.getId(), resume.getFileName(), resume.getFileType(), resume.getSize(),
+                resume.getUploadedAt(), resume.getSha256(), resume.getExtractionStatus());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.entity.Role;
+import com.example.repo.RoleRepository;
+
+/**
+ * Immutable in-memory snapshot of the roles table. Roles are seeded once at
+ * startup (see JobportalApplication.initRoles) and never change afterwards,
+ * so lookups by name are served from memory instead of MySQL.
+ */
+@Service
+public class RoleCatalog {
+
+    // A miss for an unknown name reloads at most this often
+    private static final long RELOAD_INTERVAL_MS = 30_000;
+
+    private final RoleRepository roleRepository;
+
+    private volatile Map<String, Role> rolesByName = Map.of();
+
+    private volatile long loadedAt;
+
+    public RoleCatalog(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        rolesByName = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+        loadedAt = System.currentTimeMillis();
+    }
+
+    public Optional<Role> findByName(String name) {
+        Role role = rolesByName.get(name);
+        if (role == null && System.currentTimeMillis() - loadedAt > RELOAD_INTERVAL_MS) {
+            reload();
+            role = rolesByName.get(name);
+        }
+        return Optional.ofNullable(role);
+    }
+}
@@ -1,13 +1,37 @@
 package com.example.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import static com.example.config.ReplicaRoutingDataSource.readFromPrimary;
+import static com.example.config.TransactionCallbacks.afterCommit;
+
+import com.example.dto.EducationDTO;
+import com.example.dto.ExperienceDTO;
+import com.example.dto.SkillDTO;
+import com.example.dto.StudentDTO;
 import com.example.entity.Education;
 import com.example.entity.Experience;
 import com.example.entity.Skill;
 import com.example.entity.Student;
 import com.example.repo.StudentRepository;
+import com.example.repo.StudentRepository.ProfileRow;
+import com.example.service.ProfileCache.CachedProfile;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
@@ -16,20 +40,105 @@ import lombok.RequiredArgsConstructor;
 public class StudentService {
 
     private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final ProfileCache profileCache;
 
     public Student getStudentById(Long id) {
         return studentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found with ID: " + id));
     }
 
+    /**
+     * The profile as a read model, loaded with a single query and no entity
+     * graph; {@link StudentDTO#getVersion()} doubles as the ETag.
+     */
+    public StudentDTO getProfile(Long id) {
+        List<ProfileRow> rows = studentRepository.findProfileRows(id);
+        StudentDTO profile = new StudentDTO();
+        profile.setSkills(new ArrayList<>());
+        profile.setEducation(new ArrayList<>());
+        profile.setExperience(new ArrayList<>());
+        boolean found = false;
+        for (ProfileRow row : rows) {
+            switch (row.getKind()) {
+                case "S" -> {
+                    found = true;
+                    profile.setId(row.getId());
+                    profile.setVersion(row.getVersion());
+                    profile.setName(row.getText1());
+                    profile.setEmail(row.getText2());
+                    profile.setPhone(row.getText3());
+                    profile.setLocation(row.getText4());
+                    profile.setAvatar(row.getText5());
+                }
+                case "K" -> {
+                    SkillDTO skill = new SkillDTO();
+                    skill.setId(row.getId());
+                    skill.setName(row.getText1());
+                    skill.setDescription(row.getText2());
+                    profile.getSkills().add(skill);
+                }
+                case "E" -> {
+                    EducationDTO education = new EducationDTO();
+                    education.setId(row.getId());
+                    education.setSchool(row.getText1());
+                    education.setDegree(row.getText2());
+                    education.setStartYear(row.getNumber1());
+                    education.setEndYear(row.getNumber2());
+                    education.setGpa(row.getGpa());
+                    profile.getEducation().add(education);
+                }
+                case "X" -> {
+                    ExperienceDTO experience = new ExperienceDTO();
+                    experience.setId(row.getId());
+                    experience.setRole(row.getText1());
+                    experience.setCompany(row.getText2());
+                    experience.setDescription(row.getText3());
+                    experience.setStartDate(row.getDate1());
+                    experience.setEndDate(row.getDate2());
+                    profile.getExperience().add(experience);
+                }
+                default -> throw new IllegalStateException("Unknown profile row kind: " + row.getKind());
+            }
+        }
+        if (!found) {
+            throw new EntityNotFoundException("Student not found with ID: " + id);
+        }
+        return profile;
+    }
+
+    /**
+     * The profile as cached JSON, loaded through {@link #getProfile} on a miss.
+     * The load reads the primary: a lagging replica's row would be cached
+     * for the whole TTL after the writer's eviction.
+     */
+    public CachedProfile getCachedProfile(Long id) {
+        return profileCache.get(id, studentId -> readFromPrimary(() -> getProfile(studentId)));
+    }
+
     public Student createStudentProfile(Student student) {
+        student.setVersion(null); // A client-supplied version would make Spring Data treat this as an update
         linkChildEntities(student);
         return studentRepository.save(student);
     }
 
     @Transactional
     public Student updateStudentProfile(Long id, Student updatedStudent) {
+        return updateStudentProfile(id, updatedStudent, null);
+    }
+
+    /**
+     * Replaces the profile. Child rows are merged by id rather than cleared
+     * and re-added, so unchanged rows produce no SQL at all, changed rows one
+     * UPDATE, and only rows that were really added or dropped an INSERT or
+     * DELETE.
+     *
+     * @param expectedVersion the version the client edited, or null to skip the check
+     */
+    @Transactional
+    public Student updateStudentProfile(Long id, Student updatedStudent, Long expectedVersion) {
         Student existingStudent = getStudentById(id);
+        checkVersion(existingStudent, expectedVersion);
 
         existingStudent.setName(updatedStudent.getName());
         existingStudent.setEmail(updatedStudent.getEmail());
@@ -37,23 +146,55 @@ public class StudentService {
         existingStudent.setLocation(updatedStudent.getLocation());
         existingStudent.setAvatar(updatedStudent.getAvatar());
 
-        // Clear and repopulate child lists with proper linkage
-        existingStudent.getSkills().clear();
-        for (Skill skill : updatedStudent.getSkills()) {
-            existingStudent.addSkill(skill); // Ensures both sides of relation are set
-        }
+        boolean childrenChanged = mergeChildren(existingStudent.getSkills(), updatedStudent.getSkills(),
+                Skill::getId, StudentService::copySkill, existingStudent::addSkill);
+        childrenChanged |= mergeChildren(existingStudent.getEducation(), updatedStudent.getEducation(),
+                Education::getId, StudentService::copyEducation, existingStudent::addEducation);
+        childrenChanged |= mergeChildren(existingStudent.getExperience(), updatedStudent.getExperience(),
+                Experience::getId, StudentService::copyExperience, existingStudent::addExperience);
 
-        existingStudent.getEducation().clear();
-        for (Education edu : updatedStudent.getEducation()) {
-            existingStudent.addEducation(edu);
-        }
+        return save(existingStudent, childrenChanged);
+    }
+
+    /**
+     * Partial update: null fields and null lists are left as they are. A list
+     * that is present is the complete new set for that section, merged by id.
+     */
+    @Transactional
+    public Student patchStudentProfile(Long id, StudentDTO patch, Long expectedVersion) {
+        Student existingStudent = getStudentById(id);
+        checkVersion(existingStudent, expectedVersion != null ? expectedVersion : patch.getVersion());
 
-        existingStudent.getExperience().clear();
-        for (Experience exp : updatedStudent.getExperience()) {
-            existingStudent.addExperience(exp);
+        if (patch.getName() != null) {
+            existingStudent.setName(patch.getName());
+        }
+        if (patch.getEmail() != null) {
+            existingStudent.setEmail(patch.getEmail());
+        }
+        if (patch.getPhone() != null) {
+            existingStudent.setPhone(patch.getPhone());
+        }
+        if (patch.getLocation() != null) {
+            existingStudent.setLocation(patch.getLocation());
+        }
+        if (patch.getAvatar() != null) {
+            existingStudent.setAvatar(patch.getAvatar());
+        }
+        boolean childrenChanged = false;
+        if (patch.getSkills() != null) {
+            childrenChanged |= mergeChildren(existingStudent.getSkills(), map(patch.getSkills(), StudentService::toSkill), Skill::getId,
+                    StudentService::copySkill, existingStudent::addSkill);
+        }
+        if (patch.getEducation() != null) {
+            childrenChanged |= mergeChildren(existingStudent.getEducation(), map(patch.getEducation(), StudentService::toEducation),
+                    Education::getId, StudentService::copyEducation, existingStudent::addEducation);
+        }
+        if (patch.getExperience() != null) {
+            childrenChanged |= mergeChildren(existingStudent.getExperience(), map(patch.getExperience(), StudentService::toExperience),
+                    Experience::getId, StudentService::copyExperience, existingStudent::addExperience);
         }
 
-        return studentRepository.save(existingStudent);
+        return save(existingStudent, childrenChanged);
     }
 
     public void deleteStudent(Long id) {
@@ -61,6 +202,103 @@ public class StudentService {
             throw new RuntimeException("Student not found with ID: " + id);
         }
         studentRepository.deleteById(id);
+        profileCache.invalidate(id);
+    }
+
+    // Child rows carry no version of their own; bump the student's so its version
+    // (and the profile ETag) changes whenever anything in the profile does
+    private Student save(Student student, boolean childrenChanged) {
+        if (childrenChanged) {
+            entityManager.lock(student, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        }
+        Long id = student.getId();
+        afterCommit(() -> profileCache.invalidate(id));
+        return studentRepository.save(student);
+    }
+
+    private static void checkVersion(Student student, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(student.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Student.class, student.getId());
+        }
+    }
+
+    /**
+     * Makes {@code current} match {@code desired}: items with a known id are
+     * updated in place (Hibernate only writes them if a value differs), items
+     * without an id are added, and current items missing from {@code desired}
+     * are dropped and deleted by orphan removal. Dropped children keep their
+     * student reference so entity listeners can still tell whose row it was.
+     *
+     * @return whether anything was added, dropped or changed
+     */
+    private static <T> boolean mergeChildren(List<T> current, List<T> desired, Function<T, Long> idOf,
+                                          BiConsumer<T, T> copy, Consumer<T> add) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T child : current) {
+            byId.put(idOf.apply(child), child);
+        }
+        Set<Long> kept = new HashSet<>();
+        List<T> added = new ArrayList<>();
+        boolean changed = false;
+        for (T incoming : desired == null ? List.<T>of() : desired) {
+            Long childId = idOf.apply(incoming);
+            if (childId == null) {
+                added.add(incoming);
+                continue;
+            }
+            T existing = byId.get(childId);
+            if (existing == null) {
+                throw new IllegalArgumentException("Profile has no entry with ID: " + childId);
+            }
+            // Children compare by value (Lombok equals, without the student back-reference)
+            if (!incoming.equals(existing)) {
+                copy.accept(incoming, existing);
+                changed = true;
+            }
+            kept.add(childId);
+        }
+        changed |= current.removeIf(child -> !kept.contains(idOf.apply(child)));
+        added.forEach(add);
+        return changed || !added.isEmpty();
+    }
+
+    private static void copySkill(Skill from, Skill to) {
+        to.setName(from.getName());
+        to.setDescription(from.getDescription());
+    }
+
+    private static void copyEducation(Education from, Education to) {
+        to.setSchool(from.getSchool());
+        to.setDegree(from.getDegree());
+        to.setStartYear(from.getStartYear());
+        to.setEndYear(from.getEndYear());
+        to.setGpa(from.getGpa());
+    }
+
+    private static void copyExperience(Experience from, Experience to) {
+        to.setRole(from.getRole());
+        to.setCompany(from.getCompany());
+        to.setStartDate(from.getStartDate());
+        to.setEndDate(from.getEndDate());
+        to.setDescription(from.getDescription());
+    }
+
+    private static <D, E> List<E> map(List<D> items, Function<D, E> mapper) {
+        return items.stream().filter(Objects::nonNull).map(mapper).toList();
+    }
+
+    private static Skill toSkill(SkillDTO dto) {
+        return Skill.builder().id(dto.getId()).name(dto.getName()).description(dto.getDescription()).build();
+    }
+
+    private static Education toEducation(EducationDTO dto) {
+        return Education.builder().id(dto.getId()).school(dto.getSchool()).degree(dto.getDegree())
+                .startYear(dto.getStartYear()).endYear(dto.getEndYear()).gpa(dto.getGpa()).build();
+    }
+
+    private static Experience toExperience(ExperienceDTO dto) {
+        return Experience.builder().id(dto.getId()).role(dto.getRole()).company(dto.getCompany())
+                .startDate(dto.getStartDate()).endDate(dto.getEndDate()).description(dto.getDescription()).build();
     }
 
     /**
@@ -0,0 +1,70 @@
+package com.example.service;
+
+import static com.example.config.ReplicaRoutingDataSource.readFromPrimary;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.repo.NotificationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Per-student unread notification counts kept in memory so the polled badge
+ * never queries the notifications table. A student's count is seeded with one
+ * indexed count on first use and then moved by committed inserts and read
+ * flips. Entries are re-seeded after the refresh interval, which bounds any
+ * drift from a change that committed while the seed query was running.
+ *
+ * <p>The counts are per instance and only the instance that committed a
+ * change applies it: another instance shows the old count until its entry is
+ * re-seeded, so the refresh interval is also the staleness limit across
+ * instances. Keep it short; a seed is one indexed count.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, LongAdder> counts;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+                                     MeterRegistry registry,
+                                     @Value("${notifications.unread-count.max-size:100000}") long maxSize,
+                                     @Value("${notifications.unread-count.refresh:1m}") Duration refresh) {
+        this.notificationRepository = notificationRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(refresh)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, counts, "unreadNotifications");
+    }
+
+    public long get(Long studentId) {
+        return Math.max(0, counts.get(studentId, this::seed).sum());
+    }
+
+    /**
+     * Applies a committed change. Students without a live counter are skipped;
+     * their next read seeds from the database, which already has the change.
+     */
+    public void add(Long studentId, long delta) {
+        LongAdder count = counts.getIfPresent(studentId);
+        if (count != null) {
+            count.add(delta);
+        }
+    }
+
+    private LongAdder seed(Long studentId) {
+        LongAdder count = new LongAdder();
+        // On the primary, so a lagging replica's count is not kept for the whole interval
+        count.add(readFromPrimary(() -> notificationRepository.countUnread(studentId)));
+        return count;
+    }
+}
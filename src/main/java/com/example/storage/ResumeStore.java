@@ -0,0 +1,117 @@
+package com.example.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed file store for resumes. Files live at
+ * {@code <root>/ab/cd/<sha256>}, so the same document uploaded twice is kept
+ * once. Uploads are streamed through a {@link FileChannel} into a temporary
+ * file while being hashed, then moved into place; no upload is ever held in
+ * heap as a whole.
+ */
+@Component
+public class ResumeStore {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path incoming;
+
+    public ResumeStore(@Value("${resumes.storage-dir:data/resumes}") Path root) throws IOException {
+        Files.createDirectories(root);
+        this.root = root.toRealPath();
+        this.incoming = Files.createDirectories(this.root.resolve("incoming"));
+    }
+
+    public record StoredFile(String sha256, long size, String relativePath) {
+    }
+
+    /**
+     * Streams the content to disk and returns its hash, size and location.
+     * The stream is read exactly once and is not closed.
+     */
+    public StoredFile store(InputStream content) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            long size;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                size = transferAll(Channels.newChannel(new DigestInputStream(content, digest)), out);
+                out.force(false);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String relative = relativePath(hash);
+            Path target = root.resolve(relative);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                moveIntoPlace(temp, target);
+            }
+            return new StoredFile(hash, size, relative);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Absolute, canonical path of a stored file (Tomcat's sendfile requires a
+     * canonical path).
+     */
+    public Path resolve(String sha256) {
+        if (sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Invalid content hash");
+        }
+        return root.resolve(relativePath(sha256));
+    }
+
+    static String relativePath(String sha256) {
+        return sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private static long transferAll(ReadableByteChannel in, FileChannel out) throws IOException {
+        long position = 0;
+        while (true) {
+            long transferred = out.transferFrom(in, position, 1L << 20);
+            if (transferred <= 0) {
+                // transferFrom returns 0 at end of stream for non-file sources
+                return position;
+            }
+            position += transferred;
+        }
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // A concurrent upload of the same content won; the bytes are identical
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
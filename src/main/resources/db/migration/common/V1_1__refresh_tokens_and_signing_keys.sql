@@ -0,0 +1,25 @@
+-- Rotating refresh tokens, grouped into one family per login session
+create table refresh_tokens (
+    created_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    id bigint not null auto_increment,
+    revoked_at datetime(6),
+    used_at datetime(6),
+    family_id varchar(36) not null,
+    token_hash varchar(64) not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_refresh_token_family on refresh_tokens (family_id);
+create index idx_refresh_token_revoked on refresh_tokens (revoked_at);
+alter table refresh_tokens add constraint idx_refresh_token_hash unique (token_hash);
+
+-- ES256 signing keys shared by all instances
+create table jwt_signing_keys (
+    created_at datetime(6) not null,
+    kid varchar(32) not null,
+    private_key varbinary(512) not null,
+    public_key varbinary(512) not null,
+    primary key (kid)
+) engine=InnoDB;
@@ -0,0 +1,2 @@
+-- Optimistic locking and ETags for student profiles; existing rows start at version 0
+alter table student add column version bigint default 0 not null;
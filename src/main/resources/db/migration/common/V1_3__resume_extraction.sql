@@ -0,0 +1,14 @@
+-- Resumes belong to a student, are stored by content hash and have their text extracted in the background.
+-- Rows from before the content-addressed store have no hash and no extraction status; they are never extracted.
+alter table resumes add column student_id bigint;
+alter table resumes add column sha256 varchar(64);
+alter table resumes add column extraction_status enum ('DONE','FAILED','PENDING','PROCESSING');
+alter table resumes add column extraction_attempts integer default 0 not null;
+alter table resumes add column last_attempt_at datetime(6);
+alter table resumes add column next_attempt_at datetime(6);
+alter table resumes add column extraction_error varchar(500);
+alter table resumes add column extracted_skills varchar(2000);
+
+create index idx_resume_student_uploaded on resumes (student_id, uploaded_at);
+create index idx_resume_sha256 on resumes (sha256);
+create index idx_resume_extraction_due on resumes (extraction_status, next_attempt_at);
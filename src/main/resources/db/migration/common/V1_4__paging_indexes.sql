@@ -0,0 +1,4 @@
+-- Keyset paging over a student's applications and notifications, and the unread count
+create index idx_application_student_applied on application (student_id, applied_date, id);
+create index idx_notification_student_read_created on notifications (student_id, is_read, created_at);
+create index idx_notification_student_created on notifications (student_id, created_at, id);
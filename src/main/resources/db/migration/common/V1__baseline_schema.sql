@@ -0,0 +1,125 @@
+-- The schema as Hibernate's ddl-auto=update built it before versioned migrations.
+-- Databases created that way are baselined at 1 and receive every script after this one.
+
+create table roles (
+    id bigint not null auto_increment,
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    email varchar(255),
+    full_name varchar(255),
+    password varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table user_roles (
+    role_id bigint not null,
+    user_id bigint not null,
+    primary key (role_id, user_id)
+) engine=InnoDB;
+
+create table student (
+    id bigint not null auto_increment,
+    avatar varchar(255),
+    email varchar(255),
+    location varchar(255),
+    name varchar(255),
+    phone varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table education (
+    end_year integer not null,
+    gpa float(53),
+    start_year integer not null,
+    id bigint not null auto_increment,
+    student_id bigint,
+    degree varchar(255),
+    school varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table experience (
+    end_date date,
+    start_date date,
+    id bigint not null auto_increment,
+    student_id bigint,
+    description varchar(1000),
+    company varchar(255),
+    role varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table skill (
+    id bigint not null auto_increment,
+    student_id bigint,
+    description varchar(255),
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table settings (
+    dark_mode bit not null,
+    email_notifications bit not null,
+    sms_notifications bit not null,
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    preferred_language varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table job (
+    id bigint not null auto_increment,
+    company varchar(255),
+    description varchar(255),
+    job_type varchar(255),
+    location varchar(255),
+    requirements varchar(255),
+    title varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table application (
+    applied_date date,
+    id bigint not null auto_increment,
+    job_id bigint not null,
+    student_id bigint not null,
+    status varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table notifications (
+    is_read bit not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    message varchar(1000) not null,
+    title varchar(255) not null,
+    type varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table resumes (
+    id bigint not null auto_increment,
+    size bigint not null,
+    uploaded_at datetime(6) not null,
+    file_name varchar(255) not null,
+    file_path varchar(255) not null,
+    file_type varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table settings add constraint UKo10qyccoukj2kylh4099580n9 unique (student_id);
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table user_roles add constraint FKh8ciramu9cc9q3qcqiv4ue8a6 foreign key (role_id) references roles (id);
+alter table user_roles add constraint FKhfh9dx7w3ubf1co1vdev94g3f foreign key (user_id) references users (id);
+alter table education add constraint FKiaxd5dg4t8n72c7ayejmv9bky foreign key (student_id) references student (id);
+alter table experience add constraint FK32wmetljdie7yaq5gtrrhitiw foreign key (student_id) references student (id);
+alter table skill add constraint FKh068pdynyrewfndyuqyd0mit0 foreign key (student_id) references student (id);
+alter table settings add constraint FKbb1npakg2nxwpxhgto5etwcd0 foreign key (student_id) references student (id);
+alter table application add constraint FKls6sryk64ga8o5t4bym8qu3vm foreign key (job_id) references job (id);
+alter table application add constraint FKigm5jb0xdqnqjelaagm14dcva foreign key (student_id) references student (id);
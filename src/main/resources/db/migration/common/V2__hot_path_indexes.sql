@@ -0,0 +1,11 @@
+-- Indexes for the per-student and per-job lookups. On MySQL these replace the indexes
+-- InnoDB created implicitly for the foreign keys, which it drops once a usable index exists.
+-- application (student_id) and notifications (student_id) are already covered by the
+-- leading column of idx_application_student_applied and idx_notification_student_*.
+create index idx_application_job on application (job_id);
+create index idx_education_student on education (student_id);
+create index idx_experience_student on experience (student_id);
+create index idx_skill_student on skill (student_id);
+
+-- Fails if two profiles share an email; merge or clear the duplicates before migrating
+create unique index uk_student_email on student (email);
@@ -0,0 +1,6 @@
+-- Postings belong to the recruiter who created or imported them, listed newest first.
+-- Partner feeds carry full descriptions, which did not fit the 255 characters ddl-auto chose.
+alter table job add column posted_by varchar(255);
+alter table job modify column description varchar(4000);
+alter table job modify column requirements varchar(2000);
+create index idx_job_posted_by on job (posted_by, id);
@@ -0,0 +1,2 @@
+-- Lets each instance find the resumes extracted since it last checked, to index them locally
+create index idx_resume_extracted on resumes (extraction_status, last_attempt_at);
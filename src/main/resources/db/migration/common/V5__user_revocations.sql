@@ -0,0 +1,10 @@
+-- Changes to a user that revoked their tokens, polled by every instance to drop cached details
+-- even when the user had no refresh token left to revoke
+create table user_revocations (
+    id bigint not null auto_increment,
+    revoked_at datetime(6) not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_user_revocation_revoked on user_revocations (revoked_at);
@@ -0,0 +1,5 @@
+-- Notification ids now come from notification_seq instead of an identity column.
+-- Same allocation size as the @SequenceGenerator on Notification; H2 only backs fresh test databases.
+alter table notifications alter column id drop identity;
+
+create sequence notification_seq start with 1 increment by 50;
@@ -0,0 +1,10 @@
+-- Notification ids now come from notification_seq (allocation size 50) instead of auto_increment.
+-- MySQL has no sequences: Hibernate emulates it with a one-row table holding the top of the next block,
+-- so start that block above the ids already in use.
+alter table notifications modify id bigint not null;
+
+create table notification_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into notification_seq select coalesce(max(id), 0) + 50 from notifications;
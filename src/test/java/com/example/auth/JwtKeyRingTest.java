@@ -0,0 +1,88 @@
+package com.example.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.entity.JwtSigningKey;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+class JwtKeyRingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JwtKeyRing keyRing = new JwtKeyRing(objectMapper, Duration.ofMinutes(10));
+    private final JwtUtil jwtUtil = new JwtUtil(keyRing);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    void newKeySignsOnlyAfterItWasPublishedLongEnough() throws Exception {
+        JwtSigningKey old = JwtKeyRotator.generateKey(now.minusDays(7));
+        JwtSigningKey next = JwtKeyRotator.generateKey(now.minusMinutes(1));
+        assertFalse(keyRing.update(List.of(old, next), now));
+
+        String token = jwtUtil.generateToken("asha@example.com", List.of("ROLE_STUDENT"));
+        assertEquals(old.getKid(), kidOf(token));
+        assertEquals(2, objectMapper.readTree(keyRing.jwks()).path("keys").size());
+
+        assertFalse(keyRing.update(List.of(old, next), now.plusMinutes(10)));
+        assertEquals(next.getKid(), kidOf(jwtUtil.generateToken("asha@example.com", List.of("ROLE_STUDENT"))));
+        // Tokens signed with the previous key still verify while it is in the ring
+        assertEquals("asha@example.com", jwtUtil.parseClaims(token).getSubject());
+
+        // Dropping a key is reported, so cached verifications can be discarded
+        assertTrue(keyRing.update(List.of(next), now.plusHours(1)));
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(token));
+    }
+
+    @Test
+    void rejectsTokensNotSignedByARingKey() {
+        keyRing.update(List.of(JwtKeyRotator.generateKey(now)), now);
+
+        String hmac = Jwts.builder().setSubject("asha@example.com")
+                .setHeaderParam("kid", keyRing.signingKey().kid())
+                .signWith(Keys.hmacShaKeyFor("supersecretkeyforjportal12345678".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(hmac));
+
+        String noKid = Jwts.builder().setSubject("asha@example.com")
+                .signWith(keyRing.signingKey().privateKey(), SignatureAlgorithm.ES256)
+                .compact();
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(noKid));
+    }
+
+    @Test
+    void publishesP256PublicKeysAsJwks() throws Exception {
+        JwtSigningKey key = JwtKeyRotator.generateKey(now);
+        keyRing.update(List.of(key), now);
+
+        JsonNode jwk = objectMapper.readTree(keyRing.jwks()).path("keys").get(0);
+        assertEquals("EC", jwk.path("kty").asText());
+        assertEquals("P-256", jwk.path("crv").asText());
+        assertEquals("ES256", jwk.path("alg").asText());
+        assertEquals(key.getKid(), jwk.path("kid").asText());
+        assertEquals(32, Base64.getUrlDecoder().decode(jwk.path("x").asText()).length);
+        assertEquals(32, Base64.getUrlDecoder().decode(jwk.path("y").asText()).length);
+        assertEquals(-1, jwk.toString().indexOf("\"d\""));
+    }
+
+    private String kidOf(String token) throws Exception {
+        byte[] header = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+        return objectMapper.readTree(header).path("kid").asText();
+    }
+}
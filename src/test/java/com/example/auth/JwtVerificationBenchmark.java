@@ -0,0 +1,86 @@
+package com.example.auth;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Compares the per-request cost of authenticating a bearer token:
+ * the old four parse-and-verify passes, a single parse, and a cache hit.
+ *
+ * Not part of the test run; launch {@link #main} against the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache cache;
+    private String token;
+    private UserDetails userDetails;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing(new ObjectMapper(), Duration.ZERO);
+        keyRing.update(List.of(JwtKeyRotator.generateKey(LocalDateTime.now())), LocalDateTime.now());
+        jwtUtil = new JwtUtil(keyRing);
+        cache = new VerifiedTokenCache(jwtUtil, 10_000);
+        token = jwtUtil.generateToken("student@example.com", List.of("ROLE_STUDENT"));
+        userDetails = User.withUsername("student@example.com").password("").authorities("ROLE_STUDENT").build();
+        cache.verify(token);
+    }
+
+    // What JwtAuthFilter used to do: extractUsername, validateToken (two more parses), extractRoles
+    @Benchmark
+    public void fourParses(Blackhole bh) {
+        bh.consume(jwtUtil.extractUsername(token));
+        bh.consume(jwtUtil.validateToken(token, userDetails));
+        bh.consume(jwtUtil.extractRoles(token));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole bh) {
+        Claims claims = jwtUtil.parseClaims(token);
+        bh.consume(jwtUtil.validateClaims(claims, userDetails));
+        bh.consume(jwtUtil.extractRoles(claims));
+    }
+
+    @Benchmark
+    public void cachedVerify(Blackhole bh) {
+        Claims claims = cache.verify(token);
+        bh.consume(jwtUtil.validateClaims(claims, userDetails));
+        bh.consume(jwtUtil.extractRoles(claims));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.auth.RateLimiter.Limit;
+
+class LocalRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final LocalRateLimiter limiter = new LocalRateLimiter(1000, Duration.ofMinutes(15), now::get);
+    private final Limit fivePerMinute = new Limit(5, Duration.ofMinutes(1));
+
+    @Test
+    void allowsABurstOfCapacityThenRefusesWithTheWait() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("ip:10.0.0.1", fivePerMinute));
+        }
+        long wait = limiter.tryAcquire("ip:10.0.0.1", fivePerMinute);
+        assertEquals(TimeUnit.SECONDS.toNanos(12), wait);
+
+        // Other keys have their own bucket
+        assertEquals(0, limiter.tryAcquire("ip:10.0.0.2", fivePerMinute));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("email:a@example.com", fivePerMinute);
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        assertEquals(0, limiter.tryAcquire("email:a@example.com", fivePerMinute));
+        assertTrue(limiter.tryAcquire("email:a@example.com", fivePerMinute) > 0);
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("email:a@example.com", fivePerMinute));
+        }
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheCapacity() throws InterruptedException {
+        Limit hundred = new Limit(100, Duration.ofHours(1));
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            pool.execute(() -> {
+                if (limiter.tryAcquire("ip:shared", hundred) == 0) {
+                    admitted.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(100, admitted.get());
+    }
+}
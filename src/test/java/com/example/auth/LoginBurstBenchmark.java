@@ -0,0 +1,161 @@
+package com.example.auth;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.JobportalApplication;
+
+/**
+ * Latency of an ordinary authenticated endpoint (job search) while a burst of
+ * logins hammers BCrypt: once idle, once under a burst of concurrent login
+ * clients (200 by default). With hashing confined to its own bounded pool the
+ * search percentiles should stay close to the idle run, and surplus logins
+ * should come back as fast 503s instead of queueing on Tomcat workers.
+ *
+ * Not part of the test run; launch {@link #main} against the test classpath.
+ */
+public class LoginBurstBenchmark {
+
+    // Override with -DloginClients=N; keep it well below the core count times 50 or the clients starve the server
+    private static final int LOGIN_CLIENTS = Integer.getInteger("loginClients", 200);
+    private static final int SEARCH_REQUESTS = 500;
+    private static final String PASSWORD = "correct horse battery staple";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JobportalApplication.class)
+                // Rate limits off: this measures the hashing pool, not the login throttle
+                .properties("server.port=0", "auth.bcrypt.strength=12",
+                        "auth.rate-limit.ip.capacity=1000000", "auth.rate-limit.email.capacity=1000000")
+                .run(args);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            new LoginBurstBenchmark("http://localhost:" + port).run();
+        } finally {
+            context.close();
+        }
+    }
+
+    private final String baseUrl;
+    private final HttpClient client = newClient();
+    // Separate connections for the burst, so search requests never wait behind logins client-side
+    private final HttpClient burstClient = newClient();
+
+    private LoginBurstBenchmark(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    private void run() throws Exception {
+        post("/api/auth/register", "{\"fullName\":\"Load Test\",\"email\":\"load@example.com\",\"password\":\""
+                + PASSWORD + "\",\"role\":\"student\"}");
+        HttpResponse<String> login = post("/api/auth/login", loginBody());
+        Matcher matcher = TOKEN.matcher(login.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login failed: " + login.statusCode() + " " + login.body());
+        }
+        String token = matcher.group(1);
+
+        report("idle", measureSearch(token));
+
+        Map<Integer, AtomicInteger> loginStatuses = new ConcurrentHashMap<>();
+        ExecutorService burst = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            burst.execute(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    try {
+                        int status = burstClient.send(jsonPost("/api/auth/login", loginBody()),
+                                HttpResponse.BodyHandlers.discarding()).statusCode();
+                        loginStatuses.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+                        if (status == 503) {
+                            Thread.sleep(50); // a real client would honour Retry-After
+                        }
+                    } catch (InterruptedException e) {
+                        return;
+                    } catch (Exception e) {
+                        loginStatuses.computeIfAbsent(-1, s -> new AtomicInteger()).incrementAndGet();
+                    }
+                }
+            });
+        }
+        Thread.sleep(2_000); // let the burst saturate the hashing pool
+        long[] underLoad = measureSearch(token);
+        burst.shutdownNow();
+        burst.awaitTermination(10, TimeUnit.SECONDS);
+
+        report("login burst", underLoad);
+        System.out.printf("login responses by status: %s%n", loginStatuses);
+    }
+
+    // Sorted latencies of the successful searches; failures are reported, not timed
+    private long[] measureSearch(String token) throws InterruptedException {
+        long[] micros = new long[SEARCH_REQUESTS];
+        int ok = 0;
+        for (int i = 0; i < SEARCH_REQUESTS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/jobs/search?q=java"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET().build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    micros[ok++] = (System.nanoTime() - start) / 1_000;
+                }
+            } catch (IOException e) {
+                // counted below as a failed search
+            }
+        }
+        if (ok < SEARCH_REQUESTS) {
+            System.out.printf("%d of %d searches failed%n", SEARCH_REQUESTS - ok, SEARCH_REQUESTS);
+        }
+        long[] sorted = Arrays.copyOf(micros, ok);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        return client.send(jsonPost(path, json), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest jsonPost(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    private static String loginBody() {
+        return "{\"email\":\"load@example.com\",\"password\":\"" + PASSWORD + "\",\"role\":\"student\"}";
+    }
+
+    private static void report(String phase, long[] sortedMicros) {
+        if (sortedMicros.length == 0) {
+            System.out.printf("search latency (%s): no successful requests%n", phase);
+            return;
+        }
+        System.out.printf("search latency (%s): p50=%.2fms p99=%.2fms max=%.2fms%n", phase,
+                sortedMicros[sortedMicros.length / 2] / 1000.0,
+                sortedMicros[(int) (sortedMicros.length * 0.99)] / 1000.0,
+                sortedMicros[sortedMicros.length - 1] / 1000.0);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.auth.PasswordHashingExecutor.HashingSaturatedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(registry, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void refusesWorkBeyondTheQueueInsteadOfWaiting() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.submit(() -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "first";
+        });
+        CompletableFuture<String> queued = executor.submit(() -> "second");
+
+        assertThrows(HashingSaturatedException.class, () -> executor.submit(() -> "third"));
+        assertEquals(1.0, registry.get("auth.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failuresReachTheCallerAndLeaveNoSecurityContextBehind() throws Exception {
+        CompletableFuture<Object> failed = executor.submit(() -> {
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("asha", null));
+            throw new IllegalStateException("bad credentials");
+        });
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertEquals("bad credentials", error.getCause().getMessage());
+
+        // Same single worker thread: it must start clean
+        assertNull(executor.submit(() -> SecurityContextHolder.getContext().getAuthentication()).get(5, TimeUnit.SECONDS));
+    }
+}
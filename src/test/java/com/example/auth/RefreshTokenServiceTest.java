@@ -0,0 +1,219 @@
+package com.example.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.auth.RefreshTokenService.InvalidRefreshTokenException;
+import com.example.auth.RefreshTokenService.Session;
+import com.example.entity.Role;
+import com.example.entity.User;
+import com.example.repo.RefreshTokenRepository;
+import com.example.repo.RoleRepository;
+import com.example.repo.UserRepository;
+import com.example.repo.UserRevocationRepository;
+import com.example.service.AuthResponse;
+import com.example.service.CustomUserDetailsService;
+import com.example.service.CustomUserDetailsService.AccountDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Import({RefreshTokenService.class, JwtUtil.class, JwtKeyRing.class, JwtKeyRotator.class, TokenRevocationIndex.class,
+        VerifiedTokenCache.class, CustomUserDetailsService.class})
+class RefreshTokenServiceTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRevocationRepository userRevocationRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        Role student = em.persist(new Role("ROLE_STUDENT"));
+        User user = new User();
+        user.setFullName("Asha Rao");
+        user.setEmail("asha@example.com");
+        user.setPassword("{noop}secret");
+        user.setRoles(Set.of(student));
+        em.persist(user);
+        em.flush();
+    }
+
+    @Test
+    void refreshRotatesTheTokenWithinTheSession() {
+        Session session = refreshTokenService.startSession("asha@example.com");
+
+        AuthResponse refreshed = refreshTokenService.refresh(session.refreshToken());
+
+        assertNotEquals(session.refreshToken(), refreshed.getRefreshToken());
+        Claims claims = jwtUtil.parseClaims(refreshed.getToken());
+        assertEquals(session.sessionId(), claims.get(JwtUtil.SESSION_ID, String.class));
+        assertEquals("ROLE_STUDENT", jwtUtil.extractRoles(claims).get(0));
+        assertFalse(revocationIndex.isRevoked(claims));
+
+        // The successor works in turn
+        refreshTokenService.refresh(refreshed.getRefreshToken());
+    }
+
+    @Test
+    void reusingASpentTokenRevokesTheWholeSession() {
+        Session session = refreshTokenService.startSession("asha@example.com");
+        AuthResponse refreshed = refreshTokenService.refresh(session.refreshToken());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(session.refreshToken()));
+
+        // Both the legitimate successor and the access tokens of the session are now dead
+        em.clear();
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(refreshed.getRefreshToken()));
+        assertTrue(revocationIndex.isRevoked(jwtUtil.parseClaims(refreshed.getToken())));
+    }
+
+    @Test
+    void logoutRevokesOnlyThatSession() {
+        Session phone = refreshTokenService.startSession("asha@example.com");
+        Session laptop = refreshTokenService.startSession("asha@example.com");
+        String phoneAccess = jwtUtil.generateToken("asha@example.com", List.of("ROLE_STUDENT"), phone.sessionId());
+        String laptopAccess = jwtUtil.generateToken("asha@example.com", List.of("ROLE_STUDENT"), laptop.sessionId());
+
+        refreshTokenService.logout(phone.refreshToken());
+        em.clear();
+
+        assertTrue(revocationIndex.isRevoked(jwtUtil.parseClaims(phoneAccess)));
+        assertFalse(revocationIndex.isRevoked(jwtUtil.parseClaims(laptopAccess)));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(phone.refreshToken()));
+        refreshTokenService.refresh(laptop.refreshToken());
+    }
+
+    @Test
+    void revokingAllSessionsReachesOtherInstancesThroughTheTable() {
+        Session session = refreshTokenService.startSession("asha@example.com");
+        String access = jwtUtil.generateToken("asha@example.com", List.of("ROLE_STUDENT"), session.sessionId());
+        // Revocation runs after the user change commits, in a transaction of its own
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            refreshTokenService.revokeAllSessions("asha@example.com");
+
+            // Another instance, which saw nothing in memory, learns it from its poll
+            TokenRevocationIndex elsewhere = new TokenRevocationIndex();
+            RefreshTokenService otherInstance = new RefreshTokenService(refreshTokenRepository, userRepository,
+                    userRevocationRepository, jwtUtil, elsewhere, userDetailsService, entityManagerFactory,
+                    transactionManager, Duration.ofDays(14), Duration.ofSeconds(5));
+            otherInstance.start();
+            otherInstance.stop();
+
+            assertTrue(elsewhere.isRevoked(jwtUtil.parseClaims(access)));
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(session.refreshToken()));
+        } finally {
+            userRevocationRepository.deleteAll();
+            refreshTokenRepository.deleteAll();
+            userRepository.deleteAll();
+            roleRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void aChangeToAUserWithoutSessionsStillReachesOtherInstances() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            // Cached by another instance, then changed and revoked by this one; no refresh token exists
+            AccountDetails cached = (AccountDetails) userDetailsService.loadUserByUsername("asha@example.com");
+            assertEquals("Asha Rao", cached.getFullName());
+            jdbcTemplate.update("update users set full_name = 'Asha Kulkarni' where email = 'asha@example.com'");
+            refreshTokenService.revokeAllSessions("asha@example.com");
+
+            RefreshTokenService otherInstance = new RefreshTokenService(refreshTokenRepository, userRepository,
+                    userRevocationRepository, jwtUtil, new TokenRevocationIndex(), userDetailsService,
+                    entityManagerFactory, transactionManager, Duration.ofDays(14), Duration.ofSeconds(5));
+            otherInstance.start();
+            otherInstance.stop();
+
+            AccountDetails reloaded = (AccountDetails) userDetailsService.loadUserByUsername("asha@example.com");
+            assertEquals("Asha Kulkarni", reloaded.getFullName());
+        } finally {
+            userRevocationRepository.deleteAll();
+            refreshTokenRepository.deleteAll();
+            userRepository.deleteAll();
+            roleRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void unknownTokensAreRejected() {
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh("not-a-token"));
+    }
+}
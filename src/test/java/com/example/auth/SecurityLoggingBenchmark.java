@@ -0,0 +1,174 @@
+package com.example.auth;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.config.SamplingTurboFilter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-request cost of SecurityLoggingFilter with several threads logging at
+ * once: the old System.out.println version, the current filter logging every
+ * request synchronously, through the async appender with 1-in-100 sampling,
+ * and with DEBUG off (the default). Output goes to a temp file standing in
+ * for the console.
+ *
+ * Not part of the test run; launch {@link #main} against the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class SecurityLoggingBenchmark {
+
+    @Param({"systemOut", "sync", "asyncSampled", "debugOff"})
+    public String mode;
+
+    private OncePerRequestFilter filter;
+    private final FilterChain chain = (request, response) -> { };
+    private Path output;
+    private PrintStream originalOut;
+    private LoggerContext context;
+
+    @Setup
+    public void setUp() throws IOException {
+        output = Files.createTempFile("security-logging", ".log");
+        // Every thread sees the same authenticated user
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        Authentication user = new UsernamePasswordAuthenticationToken("student@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+        SecurityContextHolder.getContext().setAuthentication(user);
+
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        Logger logger = context.getLogger(SecurityLoggingFilter.class);
+        logger.setAdditive(false);
+        logger.setLevel(Level.DEBUG);
+        switch (mode) {
+            case "systemOut" -> {
+                originalOut = System.out;
+                System.setOut(new PrintStream(new FileOutputStream(output.toFile()), true));
+                filter = new LegacySecurityLoggingFilter();
+            }
+            case "sync" -> {
+                logger.addAppender(fileAppender());
+                filter = new SecurityLoggingFilter();
+            }
+            case "asyncSampled" -> {
+                AsyncAppender async = new AsyncAppender();
+                async.setContext(context);
+                async.setQueueSize(8192);
+                async.setNeverBlock(true);
+                async.addAppender(fileAppender());
+                async.start();
+                logger.addAppender(async);
+                SamplingTurboFilter sampling = new SamplingTurboFilter();
+                sampling.setLoggerPrefix(SecurityLoggingFilter.class.getName());
+                sampling.setLevel("DEBUG");
+                sampling.setOneIn(100);
+                sampling.start();
+                context.addTurboFilter(sampling);
+                filter = new SecurityLoggingFilter();
+            }
+            default -> {
+                logger.setLevel(Level.INFO);
+                filter = new SecurityLoggingFilter();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (originalOut != null) {
+            System.out.close();
+            System.setOut(originalOut);
+        }
+        context.stop();
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public void request() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/jobs"), new MockHttpServletResponse(), chain);
+    }
+
+    private Appender<ILoggingEvent> fileAppender() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %level [%thread] %logger - %msg%n");
+        encoder.start();
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(output.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SecurityLoggingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    // The filter as it was: an unconditional, synchronized println per request
+    private static final class LegacySecurityLoggingFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws IOException, ServletException {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null) {
+                System.out.println("Authenticated user: " + auth.getName() + ", authorities: " + auth.getAuthorities());
+            } else {
+                System.out.println("No authenticated user found");
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.entity.Role;
+import com.example.repo.RoleRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and a replica; each
+ * has a one-row table naming itself, so a query shows where it was routed.
+ * Their roles table likewise holds a single role named after the database.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        if (entityManagerFactory != null) {
+            entityManagerFactory.destroy();
+        }
+        routing.close();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicasAndEverythingElseToThePrimary() {
+        setUp(Map.of("replica", database("replica")));
+
+        assertEquals("replica", readOnly.execute(status -> whereAmI()));
+        assertEquals("primary", readWrite.execute(status -> whereAmI()));
+        assertEquals("primary", whereAmI());
+    }
+
+    @Test
+    void readOnlyRepositoryCallsThroughJpaGoToReplicas() {
+        setUp(Map.of("replica", database("replica")));
+        JpaTransactionManager transactionManager = jpaTransactionManager();
+        RoleRepository roles = repository(transactionManager);
+
+        // Spring Data reads are @Transactional(readOnly = true); HibernateJpaDialect prepares the
+        // connection before the transaction is marked read-only, which the lazy proxy defers
+        assertEquals("replica", roles.findAll().get(0).getName());
+        assertEquals("primary", new TransactionTemplate(transactionManager)
+                .execute(status -> roles.findAll().get(0).getName()));
+    }
+
+    @Test
+    void readsPinnedToThePrimarySkipTheReplicas() {
+        setUp(Map.of("replica", database("replica")));
+        RoleRepository roles = repository(jpaTransactionManager());
+
+        assertEquals("primary", ReplicaRoutingDataSource.readFromPrimary(() -> readOnly.execute(status -> whereAmI())));
+        assertEquals("primary", ReplicaRoutingDataSource.readFromPrimary(() -> roles.findAll().get(0).getName()));
+        assertEquals("replica", readOnly.execute(status -> whereAmI()));
+    }
+
+    @Test
+    void spreadsReadsOverReplicasInTurn() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-a", database("replica-a"));
+        replicas.put("replica-b", database("replica-b"));
+        setUp(replicas);
+
+        List<String> seen = List.of(readOnly.execute(status -> whereAmI()), readOnly.execute(status -> whereAmI()),
+                readOnly.execute(status -> whereAmI()), readOnly.execute(status -> whereAmI()));
+        assertEquals(2, seen.stream().filter("replica-a"::equals).count());
+        assertEquals(2, seen.stream().filter("replica-b"::equals).count());
+    }
+
+    @Test
+    void aUserReadsFromThePrimaryRightAfterTheirOwnWrite() {
+        setUp(Map.of("replica", database("replica")));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("asha", null, "ROLE_STUDENT"));
+
+        assertEquals("replica", readOnly.execute(status -> whereAmI()));
+        readWrite.executeWithoutResult(status -> jdbc.update("update node set name = name"));
+        assertEquals("primary", readOnly.execute(status -> whereAmI()));
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("ravi", null, "ROLE_STUDENT"));
+        assertEquals("replica", readOnly.execute(status -> whereAmI()));
+    }
+
+    @Test
+    void skipsAFailingReplicaAndFallsBackToThePrimaryWhenNoneIsLeft() throws Exception {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("down", new UnreachableDataSource());
+        replicas.put("replica", database("replica"));
+        setUp(replicas);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica", readOnly.execute(status -> whereAmI()));
+        }
+        assertEquals(0.0, registry.get("datasource.reads").tag("target", "primary").counter().count());
+
+        routing.close();
+        setUp(Map.of("down", new UnreachableDataSource()));
+        assertEquals("primary", readOnly.execute(status -> whereAmI()));
+    }
+
+    private void setUp(Map<String, DataSource> replicas) {
+        routing = new ReplicaRoutingDataSource(database("primary"), replicas, Duration.ofSeconds(5),
+                Duration.ofHours(1), registry);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private JpaTransactionManager jpaTransactionManager() {
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(jdbc.getDataSource());
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setManagedTypes(PersistenceManagedTypes.of(Role.class.getName()));
+        entityManagerFactory.afterPropertiesSet();
+        return new JpaTransactionManager(entityManagerFactory.getObject());
+    }
+
+    private RoleRepository repository(JpaTransactionManager transactionManager) {
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject()));
+        factory.addRepositoryProxyPostProcessor((proxy, information) -> proxy.addAdvice(
+                new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource())));
+        return factory.getRepository(RoleRepository.class);
+    }
+
+    private String whereAmI() {
+        return jdbc.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("create table if not exists node (name varchar(20))");
+        new JdbcTemplate(dataSource).execute("delete from node");
+        new JdbcTemplate(dataSource).update("insert into node values (?)", name);
+        new JdbcTemplate(dataSource).execute("create table if not exists roles (id bigint primary key, name varchar(20))");
+        new JdbcTemplate(dataSource).execute("delete from roles");
+        new JdbcTemplate(dataSource).update("insert into roles values (1, ?)", name);
+        return dataSource;
+    }
+
+    private static final class UnreachableDataSource extends AbstractDataSource {
+
+        @Override
+        public java.sql.Connection getConnection() throws SQLException {
+            throw new SQLException("Connection refused");
+        }
+
+        @Override
+        public java.sql.Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
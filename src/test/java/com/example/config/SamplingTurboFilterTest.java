@@ -0,0 +1,52 @@
+package com.example.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+    private Logger sampled;
+
+    @BeforeEach
+    void setUp() {
+        filter.setLoggerPrefix("com.example.auth.JwtAuthFilter");
+        filter.setLevel("WARN");
+        filter.setOneIn(10);
+        sampled = context.getLogger("com.example.auth.JwtAuthFilter");
+        sampled.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    void keepsAboutOneInNOfTheSampledLevels() {
+        int kept = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (decide(sampled, Level.WARN) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+        assertTrue(kept > 800 && kept < 1200, "kept " + kept);
+    }
+
+    @Test
+    void leavesErrorsOtherLoggersAndDisabledLevelsAlone() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(sampled, Level.ERROR));
+            assertEquals(FilterReply.NEUTRAL, decide(context.getLogger("com.example.auth.AuthService"), Level.WARN));
+            assertEquals(FilterReply.NEUTRAL, decide(sampled, Level.TRACE));
+        }
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
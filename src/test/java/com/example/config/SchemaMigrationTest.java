@@ -0,0 +1,110 @@
+package com.example.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Runs the real scripts from db/migration through Flyway, configured as in
+ * application.properties, against a fresh in-memory H2 database in MySQL
+ * mode, like the one the application tests use.
+ */
+class SchemaMigrationTest {
+
+    private static final String HISTORY = "select \"version\" from flyway_schema_history"
+            + " where \"version\" is not null order by \"installed_rank\"";
+
+    private final JdbcDataSource dataSource = database();
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+    @Test
+    void migratesAnEmptyDatabaseToTheLatestVersion() {
+        assertEquals(10, flyway().migrate().migrationsExecuted);
+        assertEquals(List.of("1", "1.1", "1.2", "1.3", "1.4", "1.5", "2", "3", "4", "5"),
+                jdbc.queryForList(HISTORY, String.class));
+    }
+
+    @Test
+    void hotPathLookupsAreIndexed() {
+        flyway().migrate();
+
+        assertIndexed("education", "student_id", "idx_education_student");
+        assertIndexed("experience", "student_id", "idx_experience_student");
+        assertIndexed("skill", "student_id", "idx_skill_student");
+        assertIndexed("application", "job_id", "idx_application_job");
+        assertIndexed("student", "email", "uk_student_email");
+        assertIndexed("job", "posted_by", "idx_job_posted_by");
+    }
+
+    @Test
+    void aMigratedDatabaseStartsWithoutApplyingAnything() {
+        flyway().migrate();
+
+        long start = System.nanoTime();
+        assertEquals(0, flyway().migrate().migrationsExecuted);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        // Startup regression guard: an up-to-date schema costs a metadata check, not DDL
+        assertTrue(elapsedMs < 1000, "no-op migration took " + elapsedMs + " ms");
+    }
+
+    @Test
+    void baselinesASchemaBuiltWithoutMigrationsAndAppliesOnlyLaterVersions() {
+        // What ddl-auto=update left behind: the tables, no history
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V1__baseline_schema.sql"))
+                .execute(dataSource);
+        jdbc.update("insert into student (name, email) values ('Asha', 'asha@example.com')");
+
+        assertEquals(9, flyway().migrate().migrationsExecuted);
+        assertEquals(List.of("1", "1.1", "1.2", "1.3", "1.4", "1.5", "2", "3", "4", "5"),
+                jdbc.queryForList(HISTORY, String.class));
+        assertEquals(0L, jdbc.queryForObject("select version from student where email = 'asha@example.com'",
+                Long.class));
+        assertIndexed("skill", "student_id", "idx_skill_student");
+    }
+
+    @Test
+    void refusesToStartWhenAnAppliedScriptWasEdited() {
+        flyway().migrate();
+        jdbc.update("update flyway_schema_history set \"checksum\" = \"checksum\" + 1 where \"version\" = '2'");
+
+        FlywayException e = assertThrows(FlywayException.class, () -> flyway().migrate());
+        assertTrue(e.getMessage().contains("version 2"), e.getMessage());
+    }
+
+    private Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    // H2 may answer through the index it made for the foreign key instead; MySQL drops that one for ours
+    private void assertIndexed(String table, String column, String index) {
+        List<String> indexes = jdbc.queryForList("select index_name from information_schema.index_columns"
+                + " where table_name = ? and column_name = ?", String.class, table, column);
+        assertTrue(indexes.contains(index), table + " has " + indexes);
+        String plan = jdbc.queryForObject("explain select * from " + table + " where " + column + " = '1'", String.class);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    private static JdbcDataSource database() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
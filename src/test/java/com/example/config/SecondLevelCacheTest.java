@@ -0,0 +1,205 @@
+package com.example.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.entity.Job;
+import com.example.entity.Role;
+import com.example.entity.Settings;
+import com.example.entity.Student;
+import com.example.entity.User;
+import com.example.repo.RoleRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Each lookup runs in its own entity manager, like separate requests, so a
+ * second lookup can only skip the database through the second-level cache.
+ * Rows for entities whose listeners need the full application are inserted
+ * with plain JDBC.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void rolesAreReadOnceAndThenServedFromTheCache() {
+        Role role = inTransaction(em -> {
+            Role created = new Role("ROLE_RECRUITER");
+            em.persist(created);
+            return created;
+        });
+        entityManagerFactory.getCache().evictAll();
+
+        statistics.clear();
+        inTransaction(em -> em.find(Role.class, role.getId()));
+        inTransaction(em -> em.find(Role.class, role.getId()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("role").getHitCount());
+    }
+
+    @Test
+    void roleByNameIsAnsweredFromTheQueryCache() {
+        inTransaction(em -> {
+            em.persist(new Role("ROLE_MENTOR"));
+            return null;
+        });
+
+        statistics.clear();
+        assertEquals("ROLE_MENTOR", roleRepository.findByName("ROLE_MENTOR").orElseThrow().getName());
+        assertEquals("ROLE_MENTOR", roleRepository.findByName("ROLE_MENTOR").orElseThrow().getName());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void jobsAreCachedBetweenRequestsAndCountedInTheCacheMetrics() {
+        jdbc.update("insert into job (title, company, location, job_type, description, requirements)"
+                + " values ('Backend Engineer', 'Acme', 'Pune', 'Full-Time', 'APIs', 'Java, SQL')");
+        Long id = jdbc.queryForObject("select max(id) from job", Long.class);
+
+        statistics.clear();
+        inTransaction(em -> em.find(Job.class, id));
+        Job cached = inTransaction(em -> em.find(Job.class, id));
+
+        assertEquals("Backend Engineer", cached.getTitle());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(registry.get("cache.gets").tags("cache", "job", "result", "hit").functionCounter().count() >= 1);
+        assertTrue(registry.get("cache.size").tag("cache", "job").gauge().value() >= 1);
+    }
+
+    @Test
+    void updatingSettingsEvictsTheCachedCopy() {
+        Long id = inTransaction(em -> {
+            Student student = new Student();
+            student.setName("Asha");
+            student.setEmail("asha.settings@example.com");
+            em.persist(student);
+            Settings settings = new Settings(false, true, false, "en", student);
+            em.persist(settings);
+            return settings.getId();
+        });
+        inTransaction(em -> em.find(Settings.class, id));
+
+        inTransaction(em -> {
+            em.find(Settings.class, id).setDarkMode(true);
+            return null;
+        });
+
+        assertTrue(inTransaction(em -> em.find(Settings.class, id)).isDarkMode());
+    }
+
+    @Test
+    void aUsersRoleIdsAreCachedWithTheRoles() {
+        Role role = inTransaction(em -> {
+            Role created = new Role("ROLE_REVIEWER");
+            em.persist(created);
+            return created;
+        });
+        jdbc.update("insert into users (email, full_name, password) values ('ravi@example.com', 'Ravi', 'x')");
+        Long userId = jdbc.queryForObject("select id from users where email = 'ravi@example.com'", Long.class);
+        jdbc.update("insert into user_roles (user_id, role_id) values (?, ?)", userId, role.getId());
+        Function<EntityManager, User> findByEmail = em -> em
+                .createQuery("select u from User u where u.email = :email", User.class)
+                .setParameter("email", "ravi@example.com")
+                .getSingleResult();
+        inTransaction(findByEmail);
+
+        statistics.clear();
+        User user = inTransaction(findByEmail);
+
+        assertEquals("ROLE_REVIEWER", user.getRoles().iterator().next().getName());
+        // Only the user row itself; its role ids and the roles come from the cache
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("user-roles").getHitCount());
+    }
+
+    @Test
+    void regionsAreSizedFromTheCacheConfigAndHoldReferences() {
+        CaffeineConfiguration<?, ?> job = configuration("job");
+        assertEquals(OptionalLong.of(20_000), job.getMaximumSize());
+        assertFalse(job.isStoreByValue());
+        assertEquals(OptionalLong.of(10_000), configuration("default-query-results-region").getMaximumSize());
+        assertEquals(OptionalLong.empty(), configuration("default-update-timestamps-region").getMaximumSize());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<?, ?> configuration(String region) {
+        return hibernateCacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+
+    private <T> T inTransaction(Function<EntityManager, T> work) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            T result = work.apply(em);
+            em.getTransaction().commit();
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.entity.Notification;
+import com.example.entity.Student;
+import com.example.exception.GlobalExceptionHandler;
+import com.example.push.StudentEventBus;
+import com.example.service.NotificationService;
+import com.example.service.UnreadNotificationCounter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@Import({NotificationController.class, NotificationService.class, UnreadNotificationCounter.class,
+        StudentEventBus.class})
+class NotificationControllerTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private NotificationController controller;
+
+    private MockMvc mvc;
+    private Long asha;
+    private Long ravi;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new GlobalExceptionHandler()).build();
+        asha = persistStudent("asha@example.com");
+        ravi = persistStudent("ravi@example.com");
+        em.persist(new Notification(ravi, "New job match", "Java Developer at Acme", "job_match"));
+        em.flush();
+    }
+
+    private Long persistStudent(String email) {
+        Student student = new Student();
+        student.setName(email);
+        student.setEmail(email);
+        return em.persist(student).getId();
+    }
+
+    private static Authentication as(String email) {
+        return new TestingAuthenticationToken(email, null, "ROLE_STUDENT");
+    }
+
+    @Test
+    void studentsReachTheirOwnInbox() throws Exception {
+        mvc.perform(get("/api/notifications/student/{id}", ravi).principal(as("ravi@example.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+        mvc.perform(get("/api/notifications/student/{id}/unread-count", ravi).principal(as("ravi@example.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unread").value(1));
+    }
+
+    @Test
+    void anotherStudentsInboxIsForbidden() throws Exception {
+        Authentication intruder = as("asha@example.com");
+
+        mvc.perform(get("/api/notifications/student/{id}", ravi).principal(intruder))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/api/notifications/student/{id}/unread-count", ravi).principal(intruder))
+                .andExpect(status().isForbidden());
+        mvc.perform(post("/api/notifications/student/{id}/read", ravi).principal(intruder)
+                        .contentType(MediaType.APPLICATION_JSON).content("[1]"))
+                .andExpect(status().isForbidden());
+        mvc.perform(post("/api/notifications/student/{id}/read-all", ravi).principal(intruder))
+                .andExpect(status().isForbidden());
+
+        // Nothing was marked read on the way
+        mvc.perform(get("/api/notifications/student/{id}/unread-count", ravi).principal(as("ravi@example.com")))
+                .andExpect(jsonPath("$.unread").value(1));
+        mvc.perform(get("/api/notifications/student/{id}", asha).principal(intruder))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.entity.Resume;
+import com.example.entity.Student;
+import com.example.exception.GlobalExceptionHandler;
+import com.example.extraction.ResumeExtractionPipeline;
+import com.example.matching.SkillVocabulary;
+import com.example.matching.StudentSkillIndex;
+import com.example.search.ResumeSearchIndex;
+import com.example.service.ResumeService;
+import com.example.storage.ResumeStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = "resumes.search.index-dir=target/resume-controller-test-index")
+@Import({ResumeController.class, ResumeService.class, ResumeStore.class, ResumeExtractionPipeline.class,
+        ResumeSearchIndex.class, SkillVocabulary.class, StudentSkillIndex.class})
+class ResumeControllerTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ResumeController controller;
+
+    private MockMvc mvc;
+    private Long ravi;
+    private Long resume;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new GlobalExceptionHandler()).build();
+        persistStudent("asha@example.com");
+        ravi = persistStudent("ravi@example.com");
+        Resume upload = new Resume("ravi.pdf", "application/pdf", 10, LocalDateTime.now(), "ab/cd");
+        upload.setStudentId(ravi);
+        resume = em.persist(upload).getId();
+        em.flush();
+    }
+
+    private Long persistStudent(String email) {
+        Student student = new Student();
+        student.setName(email);
+        student.setEmail(email);
+        return em.persist(student).getId();
+    }
+
+    private static Authentication as(String email, String role) {
+        return new TestingAuthenticationToken(email, null, role);
+    }
+
+    @Test
+    void studentsAndRecruitersListAStudentsResumes() throws Exception {
+        mvc.perform(get("/api/resumes/student/{id}", ravi).principal(as("ravi@example.com", "ROLE_STUDENT")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        mvc.perform(get("/api/resumes/student/{id}", ravi).principal(as("hr@acme.com", "ROLE_RECRUITER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void anotherStudentsResumesAreForbidden() throws Exception {
+        Authentication intruder = as("asha@example.com", "ROLE_STUDENT");
+
+        mvc.perform(get("/api/resumes/student/{id}", ravi).principal(intruder))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/api/resumes/{id}/file", resume).principal(intruder))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,13 +1,48 @@
 package com.example.demo;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Test resources replace application.properties, so repeat its acquire-time distribution settings
+// and build the schema the way production does: migrations, then Hibernate validation
+@SpringBootTest(properties = {
+		"spring.flyway.enabled=true",
+		"spring.flyway.locations=classpath:db/migration/common,classpath:db/migration/{vendor}",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"management.metrics.distribution.percentiles.hikaricp.connections.acquire=0.5,0.95,0.99",
+		"management.metrics.distribution.slo.hikaricp.connections.acquire=1ms,5ms,10ms,50ms,100ms,500ms,1s"
+})
 class JobportalApplicationTests {
 
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MeterRegistry registry;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void connectionPoolPublishesSaturationMetrics() throws Exception {
+		try (Connection connection = dataSource.getConnection()) {
+			assertNotNull(registry.find("hikaricp.connections.active").gauge());
+			assertNotNull(registry.find("hikaricp.connections.pending").gauge());
+		}
+		assertNotNull(registry.find("hikaricp.connections.idle").gauge());
+		assertFalse(registry.find("hikaricp.connections.acquire.percentile").gauges().isEmpty());
+		assertFalse(registry.find("hikaricp.connections.acquire.histogram").tag("le", "0.005").gauges().isEmpty());
+	}
+
 }
@@ -0,0 +1,239 @@
+package com.example.extraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.entity.ExtractionStatus;
+import com.example.entity.Resume;
+import com.example.matching.SkillVocabulary;
+import com.example.matching.StudentSkillIndex;
+import com.example.repo.ResumeRepository;
+import com.example.search.ResumeSearchIndex;
+import com.example.storage.ResumeStore;
+import com.example.storage.ResumeStore.StoredFile;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Workers run on the pipeline's own threads and commit their own updates, so
+ * the test runs outside a test transaction and clears the table afterwards.
+ * Each run gets a fresh index directory. The scheduled sweep is pushed out of
+ * the way; tests call {@code sweep} and {@code process} themselves.
+ */
+@DataJpaTest(properties = {
+        "resumes.search.index-dir=target/test-pipeline-index/${random.uuid}",
+        "resumes.extraction.sweep-interval=1h",
+        "resumes.extraction.retry-backoff=1m",
+        "resumes.extraction.max-attempts=3"
+})
+@Import({ResumeExtractionPipeline.class, ResumeStore.class, ResumeSearchIndex.class, SkillVocabulary.class,
+        StudentSkillIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ResumeExtractionPipelineTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ResumeExtractionPipeline pipeline;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeSearchIndex searchIndex;
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    @Autowired
+    private SkillVocabulary vocabulary;
+
+    @AfterEach
+    void tearDown() {
+        resumeRepository.deleteAll();
+    }
+
+    @Test
+    void extractsIndexesAndRecordsTheSkills() throws IOException {
+        vocabulary.intern("java");
+        Long id = save(docx("Java developer with Elixir experience"));
+
+        pipeline.process(id);
+
+        Resume row = resumeRepository.findById(id).orElseThrow();
+        assertEquals(ExtractionStatus.DONE, row.getExtractionStatus());
+        assertEquals(1, row.getExtractionAttempts());
+        assertEquals("java", row.getExtractedSkills());
+        searchIndex.commit();
+        assertEquals(id, searchIndex.search("elixir", 0, 10).getHits().get(0).getResumeId());
+    }
+
+    @Test
+    void claimsARowOnceUntilTheClaimGoesStale() throws IOException {
+        Long id = save(docx("Go"));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(1, resumeRepository.claimForExtraction(id, now, now.minusMinutes(10)));
+        // Another worker, or the sweep, while the first is still within stale-after
+        assertEquals(0, resumeRepository.claimForExtraction(id, now.plusMinutes(1), now.minusMinutes(9)));
+        // The first worker died: its claim is older than stale-after now
+        assertEquals(1, resumeRepository.claimForExtraction(id, now.plusMinutes(11), now.plusMinutes(1)));
+        assertEquals(2, resumeRepository.findById(id).orElseThrow().getExtractionAttempts());
+
+        resumeRepository.markExtracted(id, "");
+        assertEquals(0, resumeRepository.claimForExtraction(id, now.plusHours(1), now.plusHours(1)));
+    }
+
+    @Test
+    void retriesWithGrowingBackoffThenFailsForGood() throws IOException {
+        // The stored file is gone: an I/O error, which may be transient
+        Long id = save(docx("Rust"));
+        Resume resume = resumeRepository.findById(id).orElseThrow();
+        resume.setSha256("ab".repeat(32));
+        resumeRepository.save(resume);
+
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            pipeline.process(id);
+            Resume row = resumeRepository.findById(id).orElseThrow();
+            assertEquals(ExtractionStatus.PENDING, row.getExtractionStatus());
+            assertEquals(attempt, row.getExtractionAttempts());
+            Duration backoff = Duration.between(row.getLastAttemptAt(), row.getNextAttemptAt());
+            Duration expected = Duration.ofMinutes(1L << (attempt - 1));
+            assertTrue(backoff.compareTo(expected) >= 0 && backoff.compareTo(expected.plusSeconds(5)) < 0,
+                    "attempt " + attempt + " backs off " + backoff);
+            assertTrue(row.getExtractionError().contains("NoSuchFileException"), row.getExtractionError());
+            // Not due again until the backoff has passed
+            LocalDateTime now = LocalDateTime.now();
+            assertTrue(resumeRepository.findDueForExtraction(now, now.minusMinutes(10), Limit.of(10)).isEmpty());
+        }
+
+        pipeline.process(id);
+        Resume row = resumeRepository.findById(id).orElseThrow();
+        assertEquals(ExtractionStatus.FAILED, row.getExtractionStatus());
+        assertEquals(3, row.getExtractionAttempts());
+        assertNull(row.getNextAttemptAt());
+    }
+
+    @Test
+    void failsAnUnreadableDocumentWithoutRetrying() throws IOException {
+        Long id = save("not a zip".getBytes(StandardCharsets.UTF_8));
+
+        pipeline.process(id);
+
+        Resume row = resumeRepository.findById(id).orElseThrow();
+        assertEquals(ExtractionStatus.FAILED, row.getExtractionStatus());
+        assertEquals(1, row.getExtractionAttempts());
+    }
+
+    @Test
+    void sweepPicksUpAClaimAbandonedByACrashedWorker() throws Exception {
+        Long abandoned = save(docx("Scala"));
+        Long inProgress = save(docx("Haskell"));
+        LocalDateTime now = LocalDateTime.now();
+        resumeRepository.claimForExtraction(abandoned, now.minusMinutes(11), now.minusMinutes(21));
+        resumeRepository.claimForExtraction(inProgress, now, now.minusMinutes(10));
+
+        pipeline.sweep();
+
+        awaitIndexed(abandoned);
+        Resume row = resumeRepository.findById(abandoned).orElseThrow();
+        assertEquals(ExtractionStatus.DONE, row.getExtractionStatus());
+        assertEquals(2, row.getExtractionAttempts());
+        // Still within stale-after: left to the worker that holds it
+        Resume held = resumeRepository.findById(inProgress).orElseThrow();
+        assertEquals(ExtractionStatus.PROCESSING, held.getExtractionStatus());
+        assertEquals(1, held.getExtractionAttempts());
+    }
+
+    @Test
+    void indexesResumesExtractedElsewhereWithoutTouchingTheirRows() throws Exception {
+        // Extracted before this instance started, e.g. lost from its index in a crash
+        Long before = extractedElsewhere("Kubernetes operator");
+
+        pipeline.sweep();
+        awaitIndexed(before);
+
+        // Extracted by another instance while this one is running
+        Long after = extractedElsewhere("Terraform modules");
+        pipeline.sweep();
+        awaitIndexed(after);
+
+        assertEquals(1, searchIndex.search("kubernetes", 0, 10).getHits().size());
+        assertEquals(1, searchIndex.search("terraform", 0, 10).getHits().size());
+        for (Long id : new Long[] {before, after}) {
+            Resume row = resumeRepository.findById(id).orElseThrow();
+            assertEquals(ExtractionStatus.DONE, row.getExtractionStatus());
+            assertEquals(1, row.getExtractionAttempts());
+        }
+    }
+
+    private Long extractedElsewhere(String text) throws IOException {
+        Long id = save(docx(text));
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(1, resumeRepository.claimForExtraction(id, now, now.minusMinutes(10)));
+        resumeRepository.markExtracted(id, "");
+        return id;
+    }
+
+    private Long save(byte[] content) throws IOException {
+        StoredFile stored = resumeStore.store(new ByteArrayInputStream(content));
+        Resume resume = new Resume("cv.docx", TextExtractor.DOCX, stored.size(), LocalDateTime.now(),
+                stored.relativePath());
+        resume.setSha256(stored.sha256());
+        resume.setExtractionStatus(ExtractionStatus.PENDING);
+        return resumeRepository.save(resume).getId();
+    }
+
+    private void awaitIndexed(Long id) throws InterruptedException {
+        for (int i = 0; i < 100 && !searchIndex.contains(id); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(searchIndex.contains(id), "resume " + id + " not indexed");
+    }
+
+    private static byte[] docx(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(("<?xml version=\"1.0\"?>"
+                    + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>"
+                    + "<w:p><w:r><w:t>" + text + "</w:t></w:r></w:p>"
+                    + "</w:body></w:document>").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+}
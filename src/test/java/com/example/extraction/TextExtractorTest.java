@@ -0,0 +1,92 @@
+package com.example.extraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.matching.SkillVocabulary;
+
+class TextExtractorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void extractsParagraphsFromDocx() throws IOException {
+        Path docx = dir.resolve("cv.docx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(docx))) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(("<?xml version=\"1.0\"?>"
+                    + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>"
+                    + "<w:p><w:r><w:t>Asha   Rao</w:t></w:r></w:p>"
+                    + "<w:p><w:r><w:t>Skills: </w:t></w:r><w:r><w:t>Java, Spring Boot</w:t></w:r></w:p>"
+                    + "</w:body></w:document>").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        String text = TextExtractor.normalize(TextExtractor.extract(docx, TextExtractor.DOCX, 10_000));
+
+        assertEquals("Asha Rao\nSkills: Java, Spring Boot", text);
+    }
+
+    @Test
+    void extractsTextFromPdfAndCapsLength() throws IOException {
+        Path pdf = dir.resolve("cv.pdf");
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                content.newLineAtOffset(72, 700);
+                content.showText("Kubernetes and PostgreSQL");
+                content.endText();
+            }
+            document.save(pdf.toFile());
+        }
+
+        assertEquals("Kubernetes and PostgreSQL",
+                TextExtractor.normalize(TextExtractor.extract(pdf, TextExtractor.PDF, 10_000)));
+        assertEquals("Kube", TextExtractor.extract(pdf, TextExtractor.PDF, 4));
+    }
+
+    @Test
+    void rejectsFormatsThatWillNeverParse() throws IOException {
+        Path doc = dir.resolve("cv.doc");
+        try (OutputStream out = Files.newOutputStream(doc)) {
+            out.write(new byte[] {1, 2, 3});
+        }
+        assertThrows(TextExtractor.UnsupportedDocumentException.class,
+                () -> TextExtractor.extract(doc, "application/msword", 100));
+        assertThrows(TextExtractor.UnsupportedDocumentException.class,
+                () -> TextExtractor.extract(doc, TextExtractor.DOCX, 100));
+    }
+
+    @Test
+    void picksOutOnlySkillsTheVocabularyKnows() {
+        SkillVocabulary vocabulary = new SkillVocabulary();
+        vocabulary.intern("Java, Spring Boot, Kubernetes");
+
+        List<String> skills = vocabulary.knownTerms("Skills: Java, Spring Boot, Cooking\nI enjoy k8s and java");
+
+        assertEquals(List.of("java", "spring boot", "kubernetes"), skills);
+        assertTrue(vocabulary.knownTerms("").isEmpty());
+    }
+}
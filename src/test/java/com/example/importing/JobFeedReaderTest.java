@@ -0,0 +1,100 @@
+package com.example.importing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.importing.JobFeedReader.Format;
+import com.example.importing.JobFeedReader.InvalidFeedException;
+import com.example.importing.JobFeedReader.Row;
+import com.fasterxml.jackson.core.JsonFactory;
+
+class JobFeedReaderTest {
+
+    private static List<Row> read(Format format, String feed) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        try (JobFeedReader reader = JobFeedReader.open(
+                new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8)), format, new JsonFactory())) {
+            Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void readsQuotedCsvFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+        List<Row> rows = read(Format.CSV, "﻿Title,company,Job_Type,requirements,extra\r\n"
+                + "Java Developer,Acme,Full-Time,\"Java, Spring\",x\r\n"
+                + "\r\n"
+                + "\"Say \"\"hi\"\"\",Globex,,\"line one\nline two\",\n");
+
+        assertEquals(2, rows.size());
+        Row first = rows.get(0);
+        assertEquals(1, first.number());
+        assertNull(first.error());
+        assertEquals("Java Developer", first.job().getTitle());
+        assertEquals("Full-Time", first.job().getJobType());
+        assertEquals("Java, Spring", first.job().getRequirements());
+
+        Row second = rows.get(1);
+        assertEquals(2, second.number());
+        assertEquals("Say \"hi\"", second.job().getTitle());
+        assertNull(second.job().getJobType());
+        assertEquals("line one\nline two", second.job().getRequirements());
+    }
+
+    @Test
+    void reportsBadCsvRowsAndKeepsReading() throws IOException {
+        String longField = "x".repeat(JobFeedReader.MAX_RECORD_CHARS + 1);
+        List<Row> rows = read(Format.CSV, "title,company\n"
+                + "Only one field\n"
+                + longField + ",Acme\n"
+                + "Tester,Acme\n"
+                + "\"Unterminated,Acme\n");
+
+        assertEquals(4, rows.size());
+        assertEquals("Expected 2 fields, found 1", rows.get(0).error());
+        assertTrue(rows.get(1).error().startsWith("Row is longer than"));
+        assertEquals("Tester", rows.get(2).job().getTitle());
+        assertEquals("Unterminated quoted field", rows.get(3).error());
+    }
+
+    @Test
+    void rejectsACsvHeaderWithoutTheRequiredColumns() {
+        assertThrows(InvalidFeedException.class, () -> read(Format.CSV, "title,location\nTester,Pune\n"));
+    }
+
+    @Test
+    void readsNdjsonLinesAndReportsMalformedOnes() throws IOException {
+        List<Row> rows = read(Format.NDJSON, """
+                {"title":"Java Developer","company":"Acme","job_type":"Internship","tags":["a",{"b":1}]}
+
+                {"title":"Broken",
+                {"title":{"nested":true},"company":"Acme"}
+                {"title":"Tester","company":"Acme"} {}
+                ["not an object"]
+                {"title":"Data Engineer","company":"Globex","location":null}
+                """);
+
+        assertEquals(6, rows.size());
+        assertEquals("Internship", rows.get(0).job().getJobType());
+        assertTrue(rows.get(1).error().startsWith("Malformed JSON"));
+        assertEquals("Malformed JSON: Field title must be a string", rows.get(2).error());
+        assertEquals("Malformed JSON: Unexpected content after the object", rows.get(3).error());
+        assertEquals("Malformed JSON: Expected a JSON object", rows.get(4).error());
+        assertEquals(6, rows.get(5).number());
+        assertEquals("Globex", rows.get(5).job().getCompany());
+        assertNull(rows.get(5).job().getLocation());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.matching;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Top-K scoring of one student against a synthetic job set: 2,000 distinct
+ * skills, 4-12 skills per job with a skewed (popular-first) distribution,
+ * and 15 student skills. Also measures the snapshot rebuild after job changes.
+ *
+ * Not part of the test run; launch {@link #main} against the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SkillMatchingBenchmark {
+
+    private static final int VOCABULARY = 2_000;
+
+    @Param({"100000", "500000"})
+    public int jobs;
+
+    @Param({"10", "100"})
+    public int k;
+
+    private Map<Long, int[]> jobSkills;
+    private JobSkillMatrix matrix;
+    private long[] studentBits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        jobSkills = new HashMap<>(jobs * 2);
+        for (long id = 0; id < jobs; id++) {
+            int count = 4 + random.nextInt(9);
+            int[] skills = new int[count];
+            for (int i = 0; i < count; i++) {
+                skills[i] = skewedSkill(random);
+            }
+            jobSkills.put(id, skills);
+        }
+        matrix = JobSkillMatrix.build(jobSkills, VOCABULARY);
+
+        int[] student = new int[15];
+        for (int i = 0; i < student.length; i++) {
+            student[i] = skewedSkill(random);
+        }
+        studentBits = matrix.toBitset(student);
+    }
+
+    // Squaring a uniform value favours low ids, like real skill popularity
+    private static int skewedSkill(SplittableRandom random) {
+        double u = random.nextDouble();
+        return (int) (u * u * VOCABULARY);
+    }
+
+    @Benchmark
+    public List<ScoredJob> topKParallel() {
+        return matrix.topK(studentBits, k, true);
+    }
+
+    @Benchmark
+    public List<ScoredJob> topKSequential() {
+        return matrix.topK(studentBits, k, false);
+    }
+
+    @Benchmark
+    public JobSkillMatrix rebuildSnapshot() {
+        return JobSkillMatrix.build(jobSkills, VOCABULARY);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkillMatchingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
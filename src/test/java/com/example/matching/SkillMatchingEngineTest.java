@@ -0,0 +1,66 @@
+package com.example.matching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SkillMatchingEngineTest {
+
+    @Test
+    void normalizesDelimitersAliasesAndSentences() {
+        assertEquals(List.of("spring boot", "mysql", "javascript"),
+                SkillVocabulary.normalize("Spring Boot, MySQL / JS"));
+        assertEquals(List.of("java", "microservices"),
+                SkillVocabulary.normalize("3+ years of experience with Java microservices"));
+    }
+
+    @Test
+    void ranksJobsByWeightedOverlap() {
+        SkillMatchingEngine engine = new SkillMatchingEngine(new SkillVocabulary());
+        engine.putJob(1L, "Java, Spring Boot, MySQL");
+        engine.putJob(2L, "React, TypeScript, CSS");
+        engine.putJob(3L, "Java, Kubernetes, Go, Terraform, AWS");
+        engine.putJob(4L, "Python");
+        engine.rebuild();
+
+        List<ScoredJob> top = engine.topJobs(List.of("java", "spring boot", "mysql", "k8s"), 10);
+
+        assertEquals(2, top.size());
+        assertEquals(1L, top.get(0).jobId());
+        assertEquals(3L, top.get(1).jobId());
+        assertTrue(top.get(0).score() > top.get(1).score());
+    }
+
+    @Test
+    void queriesServeTheLastSnapshotUntilTheNextRebuild() {
+        SkillMatchingEngine engine = new SkillMatchingEngine(new SkillVocabulary());
+        engine.putJob(1L, "Java");
+        engine.rebuild();
+        engine.putJob(2L, "Java");
+
+        // The query does not rebuild on the caller's thread
+        assertEquals(1, engine.topJobs(List.of("java"), 10).size());
+
+        engine.rebuild();
+        assertEquals(2, engine.topJobs(List.of("java"), 10).size());
+    }
+
+    @Test
+    void keepsOnlyTheBestKAcrossChunks() {
+        SkillMatchingEngine engine = new SkillMatchingEngine(new SkillVocabulary());
+        int jobs = JobSkillMatrix.CHUNK_SIZE * 3;
+        for (long id = 0; id < jobs; id++) {
+            // Every 1000th job needs exactly the student's two skills; the rest need one of them plus filler
+            engine.putJob(id, id % 1000 == 0 ? "java, sql" : "java, skill" + (id % 50));
+        }
+        engine.rebuild();
+
+        List<ScoredJob> top = engine.topJobs(List.of("java", "sql"), 5);
+
+        assertEquals(5, top.size());
+        assertTrue(top.stream().allMatch(match -> match.jobId() % 1000 == 0));
+    }
+}
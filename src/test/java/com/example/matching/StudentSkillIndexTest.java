@@ -0,0 +1,41 @@
+package com.example.matching;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StudentSkillIndexTest {
+
+    @Test
+    void findsStudentsCoveringEnoughOfTheJob() {
+        SkillVocabulary vocabulary = new SkillVocabulary();
+        StudentSkillIndex index = new StudentSkillIndex(vocabulary);
+        index.putStudent(1L, List.of("Java", "Spring Boot", "MySQL"));
+        index.putStudent(2L, List.of("Java"));
+        index.putStudent(3L, List.of("React", "JS"));
+
+        int[] job = vocabulary.intern("Java, Spring Boot, MySQL, Docker");
+
+        assertArrayEquals(new long[] {1L}, index.studentsMatching(job, 0.5));
+        assertArrayEquals(new long[] {1L, 2L}, index.studentsMatching(job, 0.0));
+        assertArrayEquals(new long[] {3L}, index.studentsMatching(vocabulary.intern("javascript"), 0.5));
+    }
+
+    @Test
+    void replacingOrRemovingAStudentUpdatesThePostings() {
+        SkillVocabulary vocabulary = new SkillVocabulary();
+        StudentSkillIndex index = new StudentSkillIndex(vocabulary);
+        index.putStudent(1L, List.of("Java"));
+        index.putStudent(2L, List.of("Java"));
+
+        index.putStudent(1L, List.of("Python"));
+        index.removeStudent(2L);
+
+        assertArrayEquals(new long[0], index.studentsMatching(vocabulary.intern("Java"), 0.5));
+        assertArrayEquals(new long[] {1L}, index.studentsMatching(vocabulary.intern("Python"), 0.5));
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.push;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StudentEventBusTest {
+
+    // Collects drain tasks instead of running them, to play a client that stopped reading
+    private final List<Runnable> pending = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void publishesOnlyToTheStudentsOwnStreamsAndSchedulesOneDrainAtATime() {
+        StudentEventBus bus = new StudentEventBus(registry, pending::add, 8, 100, 5, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        bus.subscribe(1L);
+        bus.subscribe(2L);
+        assertEquals(2, pending.size());
+
+        bus.publish(1L, "notification", Map.of("id", 1));
+        bus.publish(3L, "notification", Map.of("id", 2));
+        assertEquals(2, pending.size());
+
+        pending.forEach(Runnable::run);
+        pending.clear();
+        bus.publish(1L, "notification", Map.of("id", 3));
+        assertEquals(1, pending.size());
+        assertEquals(0.0, registry.counter("push.events.dropped").count());
+    }
+
+    @Test
+    void dropsEventsForASlowConsumerAndEventuallyDisconnectsIt() {
+        StudentEventBus bus = new StudentEventBus(registry, pending::add, 4, 10, 5, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        bus.subscribe(1L);
+
+        // One slot is taken by the "connected" event
+        for (int i = 0; i < 13; i++) {
+            bus.publish(1L, "notification", Map.of("id", i));
+        }
+        assertEquals(10.0, registry.counter("push.events.dropped").count());
+        assertEquals(1, bus.subscriberCount());
+
+        bus.publish(1L, "notification", Map.of("id", 99));
+        assertEquals(0, bus.subscriberCount());
+    }
+
+    @Test
+    void capsStreamsPerStudent() {
+        StudentEventBus bus = new StudentEventBus(registry, pending::add, 4, 10, 2, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        bus.subscribe(1L);
+        bus.subscribe(1L);
+        bus.subscribe(1L);
+        assertEquals(2, bus.subscriberCount());
+    }
+
+    @Test
+    void dropsAStreamWhoseSendHangsAndKeepsServingTheOthers() throws Exception {
+        ThreadPoolExecutor dispatcher = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch stuck = new CountDownLatch(1);
+        CountDownLatch othersServed = new CountDownLatch(1);
+        StudentEventBus bus = new StudentEventBus(registry, dispatcher, 8, 100, 5, Duration.ofMinutes(1),
+                Duration.ofMillis(50)) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                // The first stream plays a client whose socket buffer is full
+                boolean hangs = stuck.getCount() > 0 && subscriberCount() == 0;
+                return new SseEmitter(timeoutMs) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        if (hangs) {
+                            stuck.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        } else {
+                            othersServed.countDown();
+                        }
+                    }
+                };
+            }
+        };
+        try {
+            bus.subscribe(1L);
+            assertTrue(stuck.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+
+            bus.dropStalledSends();
+            assertEquals(0, bus.subscriberCount());
+            assertEquals(1.0, registry.counter("push.sends.stalled").count());
+
+            // The only dispatcher thread is still stuck; a stand-in serves the next stream
+            bus.subscribe(2L);
+            assertTrue(othersServed.await(5, TimeUnit.SECONDS));
+
+            release.countDown();
+            for (int i = 0; i < 50 && dispatcher.getCorePoolSize() != 1; i++) {
+                Thread.sleep(100);
+            }
+            assertEquals(1, dispatcher.getCorePoolSize());
+        } finally {
+            release.countDown();
+            dispatcher.shutdownNow();
+        }
+    }
+}
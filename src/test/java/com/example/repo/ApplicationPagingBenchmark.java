@@ -0,0 +1,139 @@
+package com.example.repo;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Page latency at increasing depth for one student with many applications:
+ * OFFSET paging against the keyset query used by findPageNewestFirst, both
+ * on the (student_id, applied_date, id) index. Keyset stays flat, OFFSET
+ * grows with the depth.
+ *
+ * Not part of the test run; launch {@link #main} against the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationPagingBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "10000", "100000", "190000"})
+    public int depth;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement keysetQuery;
+    private Date cursorDate;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:paging;MODE=MySQL", "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("create table job (id bigint primary key, title varchar(255), company varchar(255), location varchar(255))");
+            ddl.execute("create table application (id bigint primary key, student_id bigint not null, job_id bigint not null, "
+                    + "applied_date date, status varchar(255))");
+            ddl.execute("create index idx_application_student_applied on application (student_id, applied_date, id)");
+            ddl.execute("insert into job values (1, 'Engineer', 'Acme', 'Pune')");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("insert into application values (?, 1, 1, ?, 'PENDING')")) {
+            LocalDate start = LocalDate.of(2020, 1, 1);
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setLong(1, i);
+                insert.setDate(2, Date.valueOf(start.plusDays(i / 50)));
+                insert.addBatch();
+                if (i % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+
+        offsetQuery = connection.prepareStatement(
+                "select a.id, j.title, j.company, j.location, a.applied_date, a.status, j.id from application a "
+                        + "join job j on j.id = a.job_id where a.student_id = 1 "
+                        + "order by a.applied_date desc, a.id desc limit ? offset ?");
+        keysetQuery = connection.prepareStatement(
+                "select a.id, j.title, j.company, j.location, a.applied_date, a.status, j.id from application a "
+                        + "join job j on j.id = a.job_id where a.student_id = 1 "
+                        + "and (a.applied_date < ? or (a.applied_date = ? and a.id < ?)) "
+                        + "order by a.applied_date desc, a.id desc limit ?");
+
+        // The keyset cursor for a given depth is the last row of the previous page
+        try (PreparedStatement cursor = connection.prepareStatement(
+                "select applied_date, id from application where student_id = 1 "
+                        + "order by applied_date desc, id desc limit 1 offset ?")) {
+            cursor.setInt(1, Math.max(0, depth - 1));
+            try (ResultSet rs = cursor.executeQuery()) {
+                rs.next();
+                cursorDate = depth == 0 ? Date.valueOf(LocalDate.of(9999, 1, 1)) : rs.getDate(1);
+                cursorId = depth == 0 ? Long.MAX_VALUE : rs.getLong(2);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void offsetPage(Blackhole bh) throws SQLException {
+        offsetQuery.setInt(1, PAGE_SIZE);
+        offsetQuery.setInt(2, depth);
+        consume(offsetQuery, bh);
+    }
+
+    @Benchmark
+    public void keysetPage(Blackhole bh) throws SQLException {
+        keysetQuery.setDate(1, cursorDate);
+        keysetQuery.setDate(2, cursorDate);
+        keysetQuery.setLong(3, cursorId);
+        keysetQuery.setInt(4, PAGE_SIZE);
+        consume(keysetQuery, bh);
+    }
+
+    private static void consume(PreparedStatement query, Blackhole bh) throws SQLException {
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+                bh.consume(rs.getString(2));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApplicationPagingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
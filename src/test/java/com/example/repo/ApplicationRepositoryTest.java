@@ -0,0 +1,118 @@
+package com.example.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.example.dto.ApplicationDTO;
+import com.example.entity.Application;
+import com.example.entity.Job;
+import com.example.entity.Student;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ApplicationRepositoryTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+    }
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void keysetPagesRunOneStatementRegardlessOfApplicationCount(int applications) {
+        Student student = new Student();
+        student.setName("Asha");
+        student.setEmail("asha" + applications + "@example.com");
+        em.persist(student);
+
+        for (int i = 0; i < applications; i++) {
+            Job job = em.persist(new Job("Engineer " + i, "Acme " + i, "Pune", "Full-Time", "desc", "java"));
+            em.persist(new Application(student, job, LocalDate.now().minusDays(i), "PENDING"));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        int pageSize = Math.min(applications, 20);
+
+        statistics.clear();
+        List<ApplicationDTO> newest = applicationRepository.findPageNewestFirst(student.getId(), null, null, null,
+                null, null, Limit.of(20));
+        assertEquals(pageSize, newest.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        statistics.clear();
+        List<ApplicationDTO> oldest = applicationRepository.findPageOldestFirst(student.getId(), "PENDING", null, null,
+                null, null, Limit.of(20));
+        assertEquals(pageSize, oldest.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void keysetPagesWalkEveryApplicationOnceNewestFirst() {
+        Student student = new Student();
+        student.setName("Ravi");
+        student.setEmail("ravi@example.com");
+        em.persist(student);
+        Job job = em.persist(new Job("Engineer", "Acme", "Pune", "Full-Time", "desc", "java"));
+
+        // Several applications share a date so the id tie-breaker matters
+        for (int i = 0; i < 25; i++) {
+            em.persist(new Application(student, job, LocalDate.of(2025, 1, 1).plusDays(i / 3), i % 2 == 0 ? "PENDING" : "REJECTED"));
+        }
+        em.flush();
+        em.clear();
+
+        List<Long> seen = new ArrayList<>();
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        List<ApplicationDTO> page;
+        do {
+            page = applicationRepository.findPageNewestFirst(student.getId(), null, null, null,
+                    cursorDate, cursorId, Limit.of(10));
+            for (ApplicationDTO dto : page) {
+                seen.add(dto.getId());
+            }
+            if (!page.isEmpty()) {
+                cursorDate = page.get(page.size() - 1).getAppliedDate();
+                cursorId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 10);
+
+        assertEquals(25, seen.size());
+        assertEquals(25, new HashSet<>(seen).size());
+
+        List<ApplicationDTO> pending = applicationRepository.findPageOldestFirst(student.getId(), "PENDING",
+                LocalDate.of(2025, 1, 2), null, null, null, Limit.of(100));
+        assertTrue(pending.stream().allMatch(dto -> "PENDING".equals(dto.getStatus())
+                && !dto.getAppliedDate().isBefore(LocalDate.of(2025, 1, 2))));
+        assertEquals(11, pending.size());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.example.dto.NotificationDTO;
+import com.example.entity.Notification;
+import com.example.service.UnreadNotificationCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+class NotificationRepositoryTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+    }
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Test
+    void keysetPagesWalkTheInboxOnceAndFilterUnread() {
+        for (int i = 0; i < 25; i++) {
+            Notification notification = new Notification(7L, "Title " + i, "Message " + i, "job_match");
+            notification.setRead(i % 5 == 0);
+            em.persist(notification);
+        }
+        em.persist(new Notification(8L, "Other", "Other student", "job_match"));
+        em.flush();
+        em.clear();
+
+        List<Long> seen = new ArrayList<>();
+        List<NotificationDTO> page = notificationRepository.findPage(7L, false, null, null, Limit.of(10));
+        while (true) {
+            page.forEach(dto -> seen.add(dto.getId()));
+            if (page.size() < 10) {
+                break;
+            }
+            NotificationDTO last = page.get(page.size() - 1);
+            page = notificationRepository.findPage(7L, false, last.getCreatedAt(), last.getId(), Limit.of(10));
+        }
+        assertEquals(25, seen.size());
+        assertEquals(25, new HashSet<>(seen).size());
+
+        List<NotificationDTO> unread = notificationRepository.findPage(7L, true, null, null, Limit.of(100));
+        assertEquals(20, unread.size());
+        assertTrue(unread.stream().noneMatch(NotificationDTO::isRead));
+    }
+
+    @Test
+    void bulkUpdatesReportOnlyRowsThatFlippedAndTheCounterFollows() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(em.persist(new Notification(9L, "Title", "Message", "job_match")).getId());
+        }
+        em.flush();
+
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationRepository,
+                new SimpleMeterRegistry(), 100, Duration.ofHours(1));
+        assertEquals(6, counter.get(9L));
+
+        int flipped = notificationRepository.markRead(9L, ids.subList(0, 2));
+        assertEquals(2, flipped);
+        assertEquals(0, notificationRepository.markRead(9L, ids.subList(0, 2)));
+        assertEquals(0, notificationRepository.markRead(10L, ids));
+        counter.add(9L, -flipped);
+        assertEquals(4, counter.get(9L));
+
+        assertEquals(4, notificationRepository.markAllRead(9L));
+        assertEquals(0, notificationRepository.countUnread(9L));
+    }
+}
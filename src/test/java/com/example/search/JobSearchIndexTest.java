@@ -0,0 +1,84 @@
+package com.example.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.dto.JobSearchResultDTO;
+import com.example.entity.Job;
+
+class JobSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new JobSearchIndex(indexDir);
+        index.index(job(1L, "Java Backend Developer", "Acme", "Pune", "Full-Time", "Spring Boot, MySQL"));
+        index.index(job(2L, "Frontend Engineer", "Globex", "Bengaluru", "Internship", "React, TypeScript"));
+        index.index(job(3L, "Data Engineer", "Acme", "Pune", "Internship", "Python, Spark, Java"));
+        index.commit();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void ranksTitleMatchesAboveRequirementMatches() {
+        JobSearchResultDTO result = index.search("java", Map.of(), 0, 10);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(1L, result.getHits().get(0).getJobId());
+        assertEquals("Acme", result.getHits().get(0).getCompany());
+    }
+
+    @Test
+    void filtersByFacetAndCountsFacetValues() {
+        JobSearchResultDTO all = index.search(null, Map.of(), 0, 10);
+        assertEquals(Map.of("Pune", 2, "Bengaluru", 1), all.getFacets().get(JobSearchIndex.LOCATION));
+
+        JobSearchResultDTO internships = index.search("engineer", Map.of(JobSearchIndex.JOB_TYPE, "Internship"), 0, 10);
+        assertEquals(2, internships.getTotal());
+        assertTrue(internships.getHits().stream().allMatch(hit -> "Internship".equals(hit.getJobType())));
+    }
+
+    @Test
+    void pagesPastTheResultDepthHaveNoHitsButKeepTheCounts() {
+        for (int page : new int[] {JobSearchIndex.MAX_RESULT_DEPTH, Integer.MAX_VALUE}) {
+            JobSearchResultDTO result = index.search(null, Map.of(), page, 100);
+            assertTrue(result.getHits().isEmpty());
+            assertEquals(3, result.getTotal());
+            assertEquals(Map.of("Pune", 2, "Bengaluru", 1), result.getFacets().get(JobSearchIndex.LOCATION));
+        }
+    }
+
+    @Test
+    void updatesAndDeletesReplaceThePreviousDocument() {
+        index.index(job(2L, "Senior Frontend Engineer", "Globex", "Remote", "Full-Time", "React"));
+        index.delete(3L);
+        index.commit();
+
+        JobSearchResultDTO result = index.search("engineer", Map.of(), 0, 10);
+        assertEquals(1, result.getTotal());
+        assertEquals("Remote", result.getHits().get(0).getLocation());
+    }
+
+    private static Job job(Long id, String title, String company, String location, String jobType, String requirements) {
+        Job job = new Job(title, company, location, jobType, title + " at " + company, requirements);
+        job.setId(id);
+        return job;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.dto.ResumeSearchHitDTO;
+import com.example.dto.ResumeSearchResultDTO;
+
+class ResumeSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private ResumeSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new ResumeSearchIndex(indexDir);
+        index.index(1L, 10L, "asha.pdf", "Backend developer: Java, Spring Boot and MySQL");
+        index.index(2L, 20L, "ravi.docx", "Data engineer working with Python and Spark");
+        index.index(3L, 30L, "meera.pdf", "Java and Kotlin Android developer");
+        index.commit();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void findsResumesByStemmedTextAndReturnsTheStoredFields() {
+        ResumeSearchResultDTO result = index.search("developers", 0, 10);
+
+        assertEquals(2, result.getTotal());
+        ResumeSearchHitDTO asha = result.getHits().stream().filter(hit -> hit.getResumeId() == 1L).findFirst().orElseThrow();
+        assertEquals(10L, asha.getStudentId());
+        assertEquals("asha.pdf", asha.getFileName());
+        assertEquals(1, index.search("java kotlin", 0, 10).getTotal());
+        assertEquals(0, index.search("   ", 0, 10).getTotal());
+    }
+
+    @Test
+    void reindexingReplacesTheDocumentAndSurvivesReopening() throws IOException {
+        index.index(2L, 20L, "ravi.docx", "Rust systems programmer");
+        index.commit();
+        assertEquals(0, index.search("spark", 0, 10).getTotal());
+        assertEquals(3, index.size());
+
+        index.close();
+        index = new ResumeSearchIndex(indexDir);
+        assertTrue(index.contains(2L));
+        assertFalse(index.contains(4L));
+        assertEquals(2L, index.search("rust", 0, 10).getHits().get(0).getResumeId());
+    }
+
+    @Test
+    void pagesPastTheResultDepthHaveNoHitsButKeepTheTotal() {
+        assertEquals(1, index.search("java", 1, 1).getHits().size());
+
+        for (int page : new int[] {ResumeSearchIndex.MAX_RESULT_DEPTH, Integer.MAX_VALUE}) {
+            ResumeSearchResultDTO result = index.search("java", page, 100);
+            assertTrue(result.getHits().isEmpty());
+            assertEquals(2, result.getTotal());
+        }
+    }
+}
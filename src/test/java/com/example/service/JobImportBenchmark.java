@@ -0,0 +1,121 @@
+package com.example.service;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.JobportalApplication;
+
+/**
+ * Wall-clock time of a bulk CSV import (200,000 rows by default) through the
+ * recruiter API. The feed is generated while it uploads, so neither side ever
+ * holds it whole; a healthy run finishes in seconds and reports every row
+ * imported.
+ *
+ * Not part of the test run; launch {@link #main} against the test classpath.
+ */
+public class JobImportBenchmark {
+
+    // Override with -DimportRows=N
+    private static final int ROWS = Integer.getInteger("importRows", 200_000);
+    private static final String PASSWORD = "correct horse battery staple";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JobportalApplication.class)
+                .properties("server.port=0", "auth.rate-limit.ip.capacity=1000000")
+                .run(args);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            run("http://localhost:" + port);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void run(String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5)).build();
+        client.send(jsonPost(baseUrl + "/api/auth/register", "{\"fullName\":\"Feed Test\",\"email\":\"feed@example.com\","
+                + "\"password\":\"" + PASSWORD + "\",\"role\":\"recruiter\"}"), HttpResponse.BodyHandlers.discarding());
+        HttpResponse<String> login = client.send(jsonPost(baseUrl + "/api/auth/login", "{\"email\":\"feed@example.com\","
+                + "\"password\":\"" + PASSWORD + "\",\"role\":\"recruiter\"}"), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(login.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login failed: " + login.statusCode() + " " + login.body());
+        }
+
+        HttpRequest upload = HttpRequest.newBuilder(URI.create(baseUrl + "/api/recruiter/jobs/import"))
+                .header("Authorization", "Bearer " + matcher.group(1))
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(GeneratedFeed::new))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(upload, HttpResponse.BodyHandlers.ofString());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("import of %,d rows: HTTP %d in %,d ms (%,.0f rows/s)%n", ROWS, response.statusCode(),
+                elapsedMs, ROWS * 1000.0 / Math.max(1, elapsedMs));
+        String body = response.body();
+        System.out.println(body.length() > 500 ? body.substring(0, 500) + "..." : body);
+    }
+
+    private static HttpRequest jsonPost(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    // A CSV feed produced one row at a time as the client reads it
+    private static final class GeneratedFeed extends InputStream {
+
+        private static final String[] LOCATIONS = {"Pune", "Bengaluru", "Hyderabad", "Remote"};
+        private static final String[] SKILLS = {"Java", "Spring Boot", "MySQL", "React", "Python", "AWS", "Docker"};
+
+        private byte[] chunk = "title,company,location,job_type,description,requirements\n"
+                .getBytes(StandardCharsets.UTF_8);
+        private int position;
+        private int row;
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position == chunk.length && !nextRow()) {
+                return -1;
+            }
+            int n = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        private boolean nextRow() {
+            if (row == ROWS) {
+                return false;
+            }
+            row++;
+            String line = "Engineer " + row + ",Company " + (row % 500) + "," + LOCATIONS[row % LOCATIONS.length]
+                    + ",Full-Time,\"Build and run services, \"\"end to end\"\"\",\""
+                    + SKILLS[row % SKILLS.length] + ", " + SKILLS[(row / 7) % SKILLS.length] + "\"\n";
+            chunk = line.getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
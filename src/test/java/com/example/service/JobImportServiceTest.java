@@ -0,0 +1,162 @@
+package com.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dto.JobImportReportDTO;
+import com.example.dto.JobImportReportDTO.RowError;
+import com.example.importing.JobFeedReader.Format;
+import com.example.matching.JobMatchNotifier;
+import com.example.matching.ScoredJob;
+import com.example.matching.SkillMatchingEngine;
+import com.example.matching.SkillVocabulary;
+import com.example.matching.StudentSkillIndex;
+import com.example.search.JobSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The import commits its own chunks, so the test runs outside a test
+ * transaction and clears the table afterwards.
+ */
+@DataJpaTest(properties = {
+        "jobs.import.chunk-size=3",
+        "jobs.search.index-dir=target/test-import-job-index"
+})
+@Import({JobImportService.class, JobSearchIndex.class, SkillVocabulary.class, SkillMatchingEngine.class,
+        StudentSkillIndex.class, JobMatchNotifier.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobImportServiceTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private SkillMatchingEngine matchingEngine;
+
+    @Autowired
+    private JobMatchNotifier jobMatchNotifier;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("delete from job");
+        jobSearchIndex.deleteAll();
+        jobSearchIndex.commit();
+    }
+
+    private JobImportReportDTO importCsv(String feed) throws IOException {
+        return jobImportService.importJobs(new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8)),
+                Format.CSV, "recruiter@example.com", false);
+    }
+
+    @Test
+    void importsValidRowsAcrossChunksAndReportsTheRest() throws IOException {
+        StringBuilder feed = new StringBuilder("title,company,location,requirements\n");
+        for (int i = 1; i <= 7; i++) {
+            feed.append("Engineer ").append(i).append(",Acme,Pune,\"Kotlin, Spring Boot\"\n");
+        }
+        feed.append(",Acme,Pune,Java\n");
+        feed.append("Too,many,fields,in,this row\n");
+
+        JobImportReportDTO report = importCsv(feed.toString());
+
+        assertEquals(9, report.getReceived());
+        assertEquals(7, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of(new RowError(8, "title is required"), new RowError(9, "Expected 4 fields, found 5")),
+                report.getErrors());
+
+        List<Map<String, Object>> rows = jdbc.queryForList("select id, posted_by from job order by id");
+        assertEquals(7, rows.size());
+        assertTrue(rows.stream().allMatch(row -> "recruiter@example.com".equals(row.get("posted_by"))));
+        assertEquals(7.0, registry.get("jobs.import.rows").tag("result", "imported").counter().count());
+
+        // Committed chunks reach the search index and the matching engine under their generated ids
+        jobSearchIndex.commit();
+        assertEquals(7, jobSearchIndex.size());
+        matchingEngine.rebuild();
+        List<Long> ids = rows.stream().map(row -> ((Number) row.get("id")).longValue()).toList();
+        List<ScoredJob> matches = matchingEngine.topJobs(List.of("kotlin", "spring boot"), 10);
+        assertEquals(7, matches.size());
+        assertTrue(matches.stream().allMatch(match -> ids.contains(match.jobId())));
+    }
+
+    @Test
+    void retriesARejectedChunkRowByRow() throws IOException {
+        jdbc.execute("alter table job add constraint ck_no_blocked check (company <> 'Blocked')");
+        try {
+            JobImportReportDTO report = importCsv("title,company\nA,Acme\nB,Blocked\nC,Acme\nD,Acme\n");
+
+            assertEquals(3, report.getImported());
+            assertEquals(1, report.getFailed());
+            RowError error = report.getErrors().get(0);
+            assertEquals(2, error.row());
+            assertTrue(error.message().startsWith("Rejected by the database"));
+            assertEquals(List.of("A", "C", "D"), jdbc.queryForList("select title from job order by id", String.class));
+        } finally {
+            jdbc.execute("alter table job drop constraint ck_no_blocked");
+        }
+    }
+
+    @Test
+    void capsTheListedErrorsButCountsThemAll() throws IOException {
+        JobImportService capped = new JobImportService(jdbc, transactionManager, new ObjectMapper(), jobSearchIndex,
+                matchingEngine, jobMatchNotifier, new SimpleMeterRegistry(), 3, 2);
+
+        JobImportReportDTO report = capped.importJobs(new ByteArrayInputStream(
+                "{}\n{}\n{}\n{}\n".getBytes(StandardCharsets.UTF_8)), Format.NDJSON, "recruiter@example.com", false);
+
+        assertEquals(4, report.getFailed());
+        assertEquals(2, report.getErrors().size());
+    }
+}
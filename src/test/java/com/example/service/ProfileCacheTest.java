@@ -0,0 +1,83 @@
+package com.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.dto.StudentDTO;
+import com.example.service.ProfileCache.CachedProfile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProfileCacheTest {
+
+    private final ProfileCache cache = new ProfileCache(new ObjectMapper(), new SimpleMeterRegistry(),
+            1 << 20, Duration.ofMinutes(10));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private StudentDTO load(Long id) {
+        loads.incrementAndGet();
+        StudentDTO profile = new StudentDTO();
+        profile.setId(id);
+        profile.setName("Asha");
+        profile.setVersion(3L);
+        return profile;
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CachedProfile>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> cache.get(7L, id -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return load(id);
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            CachedProfile first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<CachedProfile> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void servesSerializedJsonUntilInvalidated() {
+        CachedProfile profile = cache.get(7L, this::load);
+        assertEquals(3L, profile.version());
+        assertTrue(new String(profile.json(), StandardCharsets.UTF_8).contains("\"name\":\"Asha\""));
+
+        cache.get(7L, this::load);
+        assertEquals(1, loads.get());
+
+        cache.invalidate(7L);
+        cache.get(7L, this::load);
+        assertEquals(2, loads.get());
+    }
+}
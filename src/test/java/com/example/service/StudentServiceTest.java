@@ -0,0 +1,183 @@
+package com.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.example.dto.EducationDTO;
+import com.example.dto.SkillDTO;
+import com.example.dto.StudentDTO;
+import com.example.entity.Education;
+import com.example.entity.Experience;
+import com.example.entity.Skill;
+import com.example.entity.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({StudentService.class, ProfileCache.class})
+class StudentServiceTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "com.example.entity")
+    @EnableJpaRepositories(basePackages = "com.example.repo")
+    static class Config {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private StudentService studentService;
+
+    private Student persistStudent() {
+        Student student = new Student();
+        student.setName("Asha");
+        student.setEmail("asha@example.com");
+        for (String name : List.of("Java", "SQL", "Docker")) {
+            student.addSkill(Skill.builder().name(name).build());
+        }
+        for (String school : List.of("IIT", "NIT")) {
+            student.addEducation(Education.builder().school(school).degree("BTech").startYear(2018).endYear(2022).build());
+        }
+        em.persist(student);
+        em.flush();
+        em.clear();
+        return student;
+    }
+
+    // A client round-trip: the stored profile, detached, as it would arrive in a PUT body
+    private Student copyOf(Long id) {
+        Student stored = em.find(Student.class, id);
+        Student copy = new Student();
+        copy.setName(stored.getName());
+        copy.setEmail(stored.getEmail());
+        copy.setSkills(new ArrayList<>());
+        stored.getSkills().forEach(s -> copy.getSkills().add(Skill.builder().id(s.getId()).name(s.getName()).build()));
+        copy.setEducation(new ArrayList<>());
+        stored.getEducation().forEach(e -> copy.getEducation().add(Education.builder().id(e.getId())
+                .school(e.getSchool()).degree(e.getDegree()).startYear(e.getStartYear()).endYear(e.getEndYear()).build()));
+        em.clear();
+        return copy;
+    }
+
+    private Statistics statistics() {
+        return em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void unchangedChildrenAreNotRewritten() {
+        Student student = persistStudent();
+        Student body = copyOf(student.getId());
+        statistics().clear();
+
+        studentService.updateStudentProfile(student.getId(), body);
+        em.flush();
+
+        assertEquals(0, statistics().getEntityInsertCount());
+        assertEquals(0, statistics().getEntityDeleteCount());
+        assertEquals(0, statistics().getEntityUpdateCount());
+    }
+
+    @Test
+    void onlyTheChangedChildrenProduceStatements() {
+        Student student = persistStudent();
+        Student body = copyOf(student.getId());
+        body.getSkills().get(0).setName("Java 21");                 // update
+        body.getSkills().remove(2);                                  // delete
+        body.getSkills().add(Skill.builder().name("Kafka").build()); // insert
+        statistics().clear();
+
+        studentService.updateStudentProfile(student.getId(), body);
+        em.flush();
+
+        assertEquals(1, statistics().getEntityInsertCount());
+        assertEquals(1, statistics().getEntityDeleteCount());
+        assertEquals(1, statistics().getEntityUpdateCount());
+        // Child-only changes still bump the student's version, at commit
+        assertEquals(LockModeType.OPTIMISTIC_FORCE_INCREMENT,
+                em.getEntityManager().getLockMode(em.find(Student.class, student.getId())));
+        em.clear();
+        assertEquals(List.of("Java 21", "SQL", "Kafka"),
+                em.find(Student.class, student.getId()).getSkills().stream().map(Skill::getName).toList());
+    }
+
+    @Test
+    void patchLeavesAbsentSectionsAloneAndChecksTheVersion() {
+        Student student = persistStudent();
+        Long version = em.find(Student.class, student.getId()).getVersion();
+        em.clear();
+
+        StudentDTO patch = new StudentDTO();
+        patch.setLocation("Pune");
+        SkillDTO skill = new SkillDTO();
+        skill.setName("Go");
+        patch.setSkills(List.of(skill));
+        studentService.patchStudentProfile(student.getId(), patch, version);
+        em.flush();
+        em.clear();
+
+        Student patched = em.find(Student.class, student.getId());
+        assertEquals("Pune", patched.getLocation());
+        assertEquals("Asha", patched.getName());
+        assertEquals(2, patched.getEducation().size());
+        assertEquals(List.of("Go"), patched.getSkills().stream().map(Skill::getName).toList());
+        em.clear();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> studentService.patchStudentProfile(student.getId(), new StudentDTO(), version));
+    }
+
+    @Test
+    void profileIsReadInOneQuery() {
+        Student student = persistStudent();
+        Student stored = em.find(Student.class, student.getId());
+        stored.addExperience(Experience.builder().role("Intern").company("Acme")
+                .startDate(LocalDate.of(2021, 5, 1)).endDate(LocalDate.of(2021, 8, 1)).build());
+        em.flush();
+        em.clear();
+        statistics().clear();
+
+        StudentDTO profile = studentService.getProfile(student.getId());
+
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals("Asha", profile.getName());
+        assertEquals(stored.getVersion(), profile.getVersion());
+        assertEquals(List.of("Java", "SQL", "Docker"), profile.getSkills().stream().map(SkillDTO::getName).toList());
+        assertEquals(List.of("IIT", "NIT"), profile.getEducation().stream().map(EducationDTO::getSchool).toList());
+        assertEquals(2022, profile.getEducation().get(0).getEndYear());
+        assertEquals(LocalDate.of(2021, 5, 1), profile.getExperience().get(0).getStartDate());
+        assertThrows(EntityNotFoundException.class, () -> studentService.getProfile(-1L));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ResumeStoreTest {
+
+    @TempDir
+    Path root;
+
+    private ResumeStore store;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new ResumeStore(root);
+        content = new byte[3 * 1024 * 1024 + 17];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+    }
+
+    @Test
+    void storesIdenticalContentOnceUnderItsHash() throws IOException {
+        ResumeStore.StoredFile first = store.store(new ByteArrayInputStream(content));
+        ResumeStore.StoredFile second = store.store(new ByteArrayInputStream(content));
+
+        assertEquals(first, second);
+        assertEquals(content.length, first.size());
+        assertArrayEquals(content, Files.readAllBytes(store.resolve(first.sha256())));
+        try (var files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("../../etc/passwd"));
+    }
+
+    @Test
+    void servesRangesAndNotModified() throws IOException {
+        ResumeStore.StoredFile stored = store.store(new ByteArrayInputStream(content));
+        Path file = store.resolve(stored.sha256());
+        String etag = "\"" + stored.sha256() + "\"";
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes/1/file");
+        request.addHeader("Range", "bytes=100-199");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RangeDownload.send(file, etag, "application/pdf", "cv.pdf", request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 100-199/" + content.length, response.getHeader("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(content, 100, 200), response.getContentAsByteArray());
+
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/api/resumes/1/file");
+        conditional.addHeader("If-None-Match", etag);
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        RangeDownload.send(file, etag, "application/pdf", "cv.pdf", conditional, notModified);
+
+        assertEquals(304, notModified.getStatus());
+        assertEquals(0, notModified.getContentAsByteArray().length);
+
+        MockHttpServletRequest staleRange = new MockHttpServletRequest("GET", "/api/resumes/1/file");
+        staleRange.addHeader("Range", "bytes=0-9");
+        staleRange.addHeader("If-Range", "\"other\"");
+        MockHttpServletResponse full = new MockHttpServletResponse();
+        RangeDownload.send(file, etag, "application/pdf", "cv.pdf", staleRange, full);
+
+        assertEquals(200, full.getStatus());
+        assertEquals(content.length, full.getContentAsByteArray().length);
+        assertEquals("attachment; filename=\"cv.pdf\"", full.getHeader("Content-Disposition"));
+    }
+
+    @Test
+    void rejectsUnsatisfiableRanges() throws IOException {
+        ResumeStore.StoredFile stored = store.store(new ByteArrayInputStream("short".getBytes(StandardCharsets.UTF_8)));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes/1/file");
+        request.addHeader("Range", "bytes=10-20");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RangeDownload.send(store.resolve(stored.sha256()), "\"x\"", "application/pdf", "cv.pdf", request, response);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */5", response.getHeader("Content-Range"));
+    }
+}